@@ -5,37 +5,77 @@ import com.mojang.authlib.properties.Property;
 import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.SkullMeta;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import us.teaminceptus.divisions.api.DivConfig;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.Properties;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class DivInventoryUtil {
 
+    private static final Map<String, ItemStack> HEADS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Method> SET_PROFILE = new ConcurrentHashMap<>();
+
+    private static Properties textures;
+
+    @NotNull
+    private static synchronized Properties getTextures() {
+        if (textures != null) return textures;
+
+        Properties p = new Properties();
+        try (InputStream is = DivInventoryUtil.class.getResourceAsStream("/util/heads.properties")) {
+            if (is != null) p.load(is);
+        } catch (IOException e) {
+            DivConfig.print(e);
+        }
+
+        return textures = p;
+    }
+
     @Nullable
     public static ItemStack getHead(String key) {
-        try {
-            Properties p = new Properties();
-            p.load(DivInventoryUtil.class.getResourceAsStream("/util/heads.properties"));
-
-            String value = p.getProperty(key);
+        ItemStack head = HEADS.get(key);
+        if (head == null) {
+            String value = getTextures().getProperty(key);
             if (value == null) return null;
 
+            head = createHead(value);
+            if (head == null) return null;
+
+            HEADS.putIfAbsent(key, head);
+        }
+
+        return head.clone();
+    }
+
+    @Nullable
+    private static ItemStack createHead(@NotNull String value) {
+        try {
             ItemStack head = new ItemStack(Material.PLAYER_HEAD);
             SkullMeta hMeta = (SkullMeta) head.getItemMeta();
 
-            GameProfile profile = new GameProfile(UUID.randomUUID(), null);
+            // Same texture, same ID, so that heads stack
+            GameProfile profile = new GameProfile(UUID.nameUUIDFromBytes(value.getBytes(StandardCharsets.UTF_8)), null);
             profile.getProperties().put("textures", new Property("textures", value));
-            Method mtd = hMeta.getClass().getDeclaredMethod("setProfile", GameProfile.class);
-            mtd.setAccessible(true);
+
+            Method mtd = SET_PROFILE.get(hMeta.getClass());
+            if (mtd == null) {
+                mtd = hMeta.getClass().getDeclaredMethod("setProfile", GameProfile.class);
+                mtd.setAccessible(true);
+                SET_PROFILE.put(hMeta.getClass(), mtd);
+            }
             mtd.invoke(hMeta, profile);
 
             head.setItemMeta(hMeta);
             return head;
-        } catch (IOException | ReflectiveOperationException e) {
+        } catch (ReflectiveOperationException e) {
             DivConfig.print(e);
         }
 
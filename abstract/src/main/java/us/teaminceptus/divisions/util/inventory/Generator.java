@@ -1,34 +1,103 @@
 package us.teaminceptus.divisions.util.inventory;
 
+import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import us.teaminceptus.divisions.api.DivConfig;
 import us.teaminceptus.divisions.wrapper.DivInventory;
 import us.teaminceptus.divisions.wrapper.Wrapper;
 
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
 public final class Generator {
 
+    private static final Map<String, Template> TEMPLATES = new ConcurrentHashMap<>();
+
+    static {
+        // Templates contain localized items
+        DivConfig.addReloadListener(TEMPLATES::clear);
+    }
+
     public static DivInventory genGUI(int size, String name) {
         return genGUI("", size, name);
     }
 
     @Nullable
     public static DivInventory genGUI(String key, int size, String name) {
+        return genGUI(key, size, name, null);
+    }
+
+    @Nullable
+    public static DivInventory genGUI(String key, int size, String name, @Nullable Consumer<DivInventory> layout) {
+        return genGUI(key, size, name, DivConfig.getConfiguration().getLocale(), layout);
+    }
+
+    /**
+     * Generates a GUI, copying its static layout from a template built once per identifier, size and language.
+     * @param key GUI Identifier
+     * @param size GUI Size
+     * @param name GUI Title
+     * @param locale Language of the GUI
+     * @param layout Adds the static items and actions to the template in the given language; must be the same for each
+     * identifier and size
+     * @return Generated GUI, or null if the size is invalid
+     */
+    @Nullable
+    public static DivInventory genGUI(String key, int size, String name, @NotNull Locale locale, @Nullable Consumer<DivInventory> layout) {
         if (size < 9 || size > 54) return null;
         if (size % 9 > 0) return null;
 
+        Template template = TEMPLATES.computeIfAbsent(key + ":" + size + ":" + locale.getLanguage(), k -> {
+            DivInventory inv = Wrapper.getWrapper().createInventory(key, size, name);
+            border(inv);
+            if (layout != null) layout.accept(inv);
+
+            return new Template(inv);
+        });
+
         DivInventory inv = Wrapper.getWrapper().createInventory(key, size, name);
+        template.apply(inv);
+        return inv;
+    }
+
+    private static void border(@NotNull DivInventory inv) {
+        int size = inv.getSize();
         ItemStack bg = ItemBuilder.GUI_BACKGROUND;
 
-        if (size < 27) return inv;
+        if (size < 27) return;
 
-        for (int i = 0; i < 9; i++) inv.setItem(i, bg);
-        for (int i = size - 9; i < size; i++) inv.setItem(i, bg);
+        for (int i = 0; i < 9; i++) inv.setItem(i, bg, DivInventory.CANCEL);
+        for (int i = size - 9; i < size; i++) inv.setItem(i, bg, DivInventory.CANCEL);
         for (int i = 1; i < Math.floor((double) size / 9D) - 1; i++) {
-            inv.setItem(i * 9, bg);
-            inv.setItem(((i + 1) * 9) - 1, bg);
+            inv.setItem(i * 9, bg, DivInventory.CANCEL);
+            inv.setItem(((i + 1) * 9) - 1, bg, DivInventory.CANCEL);
+        }
+    }
+
+    private static final class Template {
+
+        private final ItemStack[] contents;
+        private final BiConsumer<DivInventory, InventoryClickEvent>[] actions;
+
+        @SuppressWarnings("unchecked")
+        Template(DivInventory inv) {
+            this.contents = inv.getContents();
+            this.actions = new BiConsumer[contents.length];
+            for (int i = 0; i < actions.length; i++) actions[i] = inv.getAction(i);
+        }
+
+        void apply(DivInventory inv) {
+            // setContents copies each item into the new inventory
+            inv.setContents(contents);
+            for (int i = 0; i < actions.length; i++)
+                if (actions[i] != null) inv.setAction(i, actions[i]);
         }
 
-        return inv;
     }
 
 }
@@ -6,41 +6,46 @@ import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.jetbrains.annotations.NotNull;
+import us.teaminceptus.divisions.api.DivConfig;
+import us.teaminceptus.divisions.wrapper.AttributeKey;
 import us.teaminceptus.divisions.wrapper.DivInventory;
-import us.teaminceptus.divisions.wrapper.nbt.NBTWrapper;
+
+import java.util.Locale;
 
 import static us.teaminceptus.divisions.wrapper.Wrapper.get;
-import static us.teaminceptus.divisions.wrapper.nbt.NBTWrapper.of;
+import static us.teaminceptus.divisions.wrapper.nbt.NBTWrapper.edit;
 
 public final class InventorySelector {
 
+    public static final AttributeKey<Runnable> CONFIRM_ACTION = AttributeKey.of("confirm_action", Runnable.class);
+    public static final AttributeKey<Runnable> CANCEL_ACTION = AttributeKey.of("cancel_action", Runnable.class);
+
     public static void confirm(@NotNull Player p, @NotNull Runnable confirmR, @NotNull Runnable cancelR) {
-        DivInventory inv = Generator.genGUI("confirm_inv", 27, get("menu.are_you_sure"));
+        Locale locale = DivConfig.getConfiguration().getLocale(p);
+        DivInventory inv = Generator.genGUI("confirm_inv", 27, get("menu.are_you_sure", p), locale, i -> confirmLayout(i, p));
         inv.setCancelled();
-        inv.setAttribute("confirm_action", confirmR);
-        inv.setAttribute("cancel_action", cancelR);
+        inv.setAttribute(CONFIRM_ACTION, confirmR);
+        inv.setAttribute(CANCEL_ACTION, cancelR);
 
+        p.openInventory(inv);
+    }
+
+    private static void confirmLayout(@NotNull DivInventory inv, @NotNull Player p) {
         ItemStack confirm = new ItemStack(Material.LIME_WOOL);
         ItemMeta cMeta = confirm.getItemMeta();
-        cMeta.setDisplayName(ChatColor.GREEN + get("constants.confirm"));
+        cMeta.setDisplayName(ChatColor.GREEN + get("constants.confirm", p));
         confirm.setItemMeta(cMeta);
 
-        NBTWrapper confirmNBT = of(confirm);
-        confirmNBT.set("item", "confirm");
-        confirm = confirmNBT.getItem();
-        inv.setItem(11, confirm);
+        confirm = edit(confirm, w -> w.set("item", "confirm"));
+        inv.setItem(11, confirm, (i, e) -> i.getAttribute(CONFIRM_ACTION).run());
 
         ItemStack cancel = new ItemStack(Material.RED_WOOL);
         ItemMeta caMeta = cancel.getItemMeta();
-        caMeta.setDisplayName(ChatColor.RED + get("constants.cancel"));
+        caMeta.setDisplayName(ChatColor.RED + get("constants.cancel", p));
         cancel.setItemMeta(caMeta);
 
-        NBTWrapper cancelNBT = of(cancel);
-        cancelNBT.set("item", "cancel");
-        cancel = cancelNBT.getItem();
-        inv.setItem(15, cancel);
-
-        p.openInventory(inv);
+        cancel = edit(cancel, w -> w.set("item", "cancel"));
+        inv.setItem(15, cancel, (i, e) -> i.getAttribute(CANCEL_ACTION).run());
     }
 
 }
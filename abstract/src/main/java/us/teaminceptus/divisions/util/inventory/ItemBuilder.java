@@ -40,6 +40,11 @@ public final class ItemBuilder {
         loaded = true;
     }
 
+    public static void reloadItems() {
+        loaded = false;
+        loadItems();
+    }
+
     public static ItemStack GUI_BACKGROUND;
     public static ItemStack SAVE;
     public static ItemStack CONFIRM;
@@ -93,9 +98,7 @@ public final class ItemBuilder {
     }
 
     public ItemBuilder nbt(@NotNull Consumer<NBTWrapper> nbt) {
-        NBTWrapper w = NBTWrapper.of(item);
-        nbt.accept(w);
-        this.item = w.getItem();
+        this.item = NBTWrapper.edit(item, nbt);
         return this;
     }
 
@@ -0,0 +1,57 @@
+package us.teaminceptus.divisions.wrapper;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+public final class AttributeKey<T> {
+
+    public static final AttributeKey<String> NAME = of("_name", String.class);
+
+    public static final AttributeKey<Boolean> CANCELLED = of("_cancelled", Boolean.class);
+
+    private final String name;
+    private final Class<T> type;
+
+    private AttributeKey(String name, Class<T> type) {
+        this.name = name;
+        this.type = type;
+    }
+
+    @NotNull
+    public static <T> AttributeKey<T> of(@NotNull String name, @NotNull Class<T> type) {
+        if (name == null) throw new IllegalArgumentException("Name cannot be null");
+        if (type == null) throw new IllegalArgumentException("Type cannot be null");
+
+        return new AttributeKey<>(name, type);
+    }
+
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    @NotNull
+    public Class<T> getType() {
+        return type;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof AttributeKey)) return false;
+        AttributeKey<?> that = (AttributeKey<?>) o;
+        return name.equals(that.name) && type.equals(that.type);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, type);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+}
@@ -1,26 +1,31 @@
 package us.teaminceptus.divisions.wrapper;
 
+import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 public interface DivInventory extends Inventory {
 
+    BiConsumer<DivInventory, InventoryClickEvent> CANCEL = (inv, e) -> e.setCancelled(true);
+
     @Override
     @NotNull
     default String getTitle() {
-        return getAttribute("_name", String.class);
+        return getAttribute(AttributeKey.NAME);
     }
 
     default boolean isCancelled() {
-        return getAttribute("_cancelled", Boolean.class);
+        return getAttribute(AttributeKey.CANCELLED, false);
     }
 
     default void setCancelled(boolean cancelled) {
-        setAttribute("_cancelled", cancelled);
+        setAttribute(AttributeKey.CANCELLED, cancelled);
     }
 
     default void setCancelled() {
@@ -50,8 +55,44 @@ public interface DivInventory extends Inventory {
         return type.cast(getAttribute(key, def));
     }
 
+    @Nullable
+    default <T> T getAttribute(@NotNull AttributeKey<T> key) {
+        return key.getType().cast(getAllAttributes().get(key.getName()));
+    }
+
+    @NotNull
+    default <T> T getAttribute(@NotNull AttributeKey<T> key, @NotNull T def) {
+        T value = getAttribute(key);
+        return value == null ? def : value;
+    }
+
     void setAttribute(@NotNull String key, @Nullable Object value);
 
+    default <T> void setAttribute(@NotNull AttributeKey<T> key, @Nullable T value) {
+        setAttribute(key.getName(), value);
+    }
+
     void removeAttribute(@NotNull String key);
 
+    // Click Actions
+
+    @Nullable
+    BiConsumer<DivInventory, InventoryClickEvent> getAction(int slot);
+
+    // Only returns actions set with an item while the slot still holds that item
+    @Nullable
+    default BiConsumer<DivInventory, InventoryClickEvent> getAction(int slot, @Nullable ItemStack item) {
+        BiConsumer<DivInventory, InventoryClickEvent> action = getAction(slot);
+        if (action instanceof ItemAction && !((ItemAction) action).matches(item)) return null;
+
+        return action;
+    }
+
+    void setAction(int slot, @Nullable BiConsumer<DivInventory, InventoryClickEvent> action);
+
+    default void setItem(int slot, @Nullable ItemStack item, @Nullable BiConsumer<DivInventory, InventoryClickEvent> action) {
+        setItem(slot, item);
+        setAction(slot, item == null || action == null ? action : new ItemAction(item, action));
+    }
+
 }
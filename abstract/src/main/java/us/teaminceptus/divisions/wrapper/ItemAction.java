@@ -0,0 +1,30 @@
+package us.teaminceptus.divisions.wrapper;
+
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.BiConsumer;
+
+// Slot action bound to the item it was set with
+final class ItemAction implements BiConsumer<DivInventory, InventoryClickEvent> {
+
+    private final ItemStack item;
+    private final BiConsumer<DivInventory, InventoryClickEvent> action;
+
+    ItemAction(@NotNull ItemStack item, @NotNull BiConsumer<DivInventory, InventoryClickEvent> action) {
+        this.item = item.clone();
+        this.action = action;
+    }
+
+    boolean matches(@Nullable ItemStack item) {
+        return this.item.isSimilar(item);
+    }
+
+    @Override
+    public void accept(DivInventory inv, InventoryClickEvent e) {
+        action.accept(inv, e);
+    }
+
+}
@@ -1,6 +1,7 @@
 package us.teaminceptus.divisions.wrapper;
 
 import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -30,29 +31,23 @@ public interface Wrapper {
 
     @NotNull
     static String getServerVersion() {
-        if (Bukkit.getServer() == null) return ""; // Using Test Server
-        return Bukkit.getServer().getClass().getPackage().getName().split("\\.")[3].substring(1);
+        return WrapperHolder.SERVER_VERSION;
     }
 
     @Nullable
     static Wrapper getWrapper() {
-        try {
-            return Class.forName("us.teaminceptus.divisions.wrapper.Wrapper" + getServerVersion())
-                    .asSubclass(Wrapper.class)
-                    .getConstructor()
-                    .newInstance();
-        } catch (ClassNotFoundException e) { // Using unsupported version
-            return null;
-        } catch (Exception e) {
-            DivConfig.print(e);
-        }
-        return null;
+        return WrapperHolder.WRAPPER;
     }
 
     static String get(String key) {
         return DivConfig.getConfiguration().get(key);
     }
 
+    static String get(String key, @Nullable OfflinePlayer player) {
+        DivConfig config = DivConfig.getConfiguration();
+        return config.get(key, config.getLocale(player));
+    }
+
     // Wrapper Implementation
 
     DivInventory createInventory(@NotNull String identifier, int size, @NotNull String title);
@@ -0,0 +1,37 @@
+package us.teaminceptus.divisions.wrapper;
+
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import us.teaminceptus.divisions.api.DivConfig;
+
+// Resolved once, when first used
+final class WrapperHolder {
+
+    static final String SERVER_VERSION = resolveServerVersion();
+    static final Wrapper WRAPPER = resolveWrapper();
+
+    private WrapperHolder() { throw new UnsupportedOperationException("This class should not be instantiated"); }
+
+    @NotNull
+    private static String resolveServerVersion() {
+        if (Bukkit.getServer() == null) return ""; // Using Test Server
+        return Bukkit.getServer().getClass().getPackage().getName().split("\\.")[3].substring(1);
+    }
+
+    @Nullable
+    private static Wrapper resolveWrapper() {
+        try {
+            return Class.forName("us.teaminceptus.divisions.wrapper.Wrapper" + SERVER_VERSION)
+                    .asSubclass(Wrapper.class)
+                    .getConstructor()
+                    .newInstance();
+        } catch (ClassNotFoundException e) { // Using unsupported version
+            return null;
+        } catch (Exception e) {
+            DivConfig.print(e);
+        }
+        return null;
+    }
+
+}
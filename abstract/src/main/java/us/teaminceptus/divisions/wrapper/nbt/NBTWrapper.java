@@ -5,6 +5,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static us.teaminceptus.divisions.wrapper.Wrapper.getWrapper;
 
@@ -14,10 +15,21 @@ public abstract class NBTWrapper {
 
     protected ItemStack item;
 
+    private boolean editing = false;
+    private boolean changed = false;
+
     protected NBTWrapper(ItemStack item) { this.item = item; }
 
     public ItemStack getItem() { return item; }
 
+    // Writes changed tags back to the item
+    protected abstract void save();
+
+    protected final void changed() {
+        if (editing) changed = true;
+        else save();
+    }
+
     public static NBTWrapper of(ItemStack item) {
         return getWrapper().createNBTWrapper(item);
     }
@@ -32,6 +44,37 @@ public abstract class NBTWrapper {
         return nbt.getItem();
     }
 
+    /**
+     * Reads and writes any amount of tags on an item, copying it only once in each direction.
+     * @param item Item to edit
+     * @param edit Edits to apply
+     * @return Edited Item
+     */
+    @NotNull
+    public static ItemStack edit(@NotNull ItemStack item, @NotNull Consumer<NBTWrapper> edit) {
+        NBTWrapper nbt = of(item);
+        nbt.edit(edit);
+        return nbt.getItem();
+    }
+
+    public final void edit(@NotNull Consumer<NBTWrapper> edit) {
+        if (editing) {
+            edit.accept(this);
+            return;
+        }
+
+        editing = true;
+        try {
+            edit.accept(this);
+        } finally {
+            editing = false;
+            if (changed) {
+                changed = false;
+                save();
+            }
+        }
+    }
+
     public final void setID(String value) {
         set("id", value);
     }
@@ -40,9 +83,12 @@ public abstract class NBTWrapper {
         return getString("id");
     }
 
-    public final boolean hasID() { return getID() != null && !getID().isEmpty(); }
+    public final boolean hasID() { return hasString("id"); }
 
-    public final boolean hasString(String key) { return getString(key) != null && !getString(key).isEmpty(); }
+    public final boolean hasString(String key) {
+        String value = getString(key);
+        return value != null && !value.isEmpty();
+    }
 
     public abstract String getString(String key);
 
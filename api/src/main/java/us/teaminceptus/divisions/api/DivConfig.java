@@ -1,8 +1,13 @@
 package us.teaminceptus.divisions.api;
 
 import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import us.teaminceptus.divisions.api.division.DivisionStorage;
+import us.teaminceptus.divisions.api.player.DivPlayer;
+import us.teaminceptus.divisions.api.player.PlayerSetting;
 
 import java.io.File;
 import java.util.Locale;
@@ -85,6 +90,39 @@ public interface DivConfig {
         return new File(getDataFolder(), "divisions");
     }
 
+    /**
+     * Adds a listener called after the configuration has been reloaded, used to rebuild anything derived from it.
+     * @param listener Listener to add
+     * @since 1.0.0
+     * @throws IllegalArgumentException if listener is null
+     */
+    static void addReloadListener(@NotNull Runnable listener) throws IllegalArgumentException {
+        if (listener == null) throw new IllegalArgumentException("Listener cannot be null");
+        ReloadListeners.LISTENERS.add(listener);
+    }
+
+    /**
+     * Removes a listener added with {@link #addReloadListener(Runnable)}.
+     * @param listener Listener to remove
+     * @since 1.0.0
+     */
+    static void removeReloadListener(@Nullable Runnable listener) {
+        ReloadListeners.LISTENERS.remove(listener);
+    }
+
+    /**
+     * Calls all reload listeners. This is called by the plugin after the configuration has been reloaded.
+     * @since 1.0.0
+     */
+    static void callReloadListeners() {
+        for (Runnable listener : ReloadListeners.LISTENERS)
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                print(e);
+            }
+    }
+
     // Configuration
 
     /**
@@ -102,6 +140,70 @@ public interface DivConfig {
      */
     String getMessage(String key);
 
+    /**
+     * Fetches a String from the language file for the given Locale, falling back to English if not found.
+     * @param key Key to fetch
+     * @param locale Locale to use
+     * @return String fetched
+     * @since 1.0.0
+     */
+    String get(String key, Locale locale);
+
+    /**
+     * Fetches a String from the language file for the given Locale, with the plugin prefix in front.
+     * @param key Key to fetch
+     * @param locale Locale to use
+     * @return Message fetched
+     * @since 1.0.0
+     */
+    default String getMessage(String key, Locale locale) {
+        return get("plugin.prefix", locale) + " " + get(key, locale);
+    }
+
+    /**
+     * Fetches a String from the language file for the given Locale, replacing its {@link java.text.MessageFormat}
+     * placeholders with the given arguments.
+     * @param key Key to fetch
+     * @param locale Locale to use
+     * @param args Arguments to insert
+     * @return Formatted String
+     * @since 1.0.0
+     */
+    String format(String key, Locale locale, Object... args);
+
+    /**
+     * <p>Fetches the Locale that messages should be sent to a player in.</p>
+     * <p>This is the player's {@link PlayerSetting#LANGUAGE} setting if set, otherwise the player's client language if
+     * online, otherwise {@link #getLocale()}. Languages that are not {@linkplain #isSupported(String) supported} also use
+     * {@link #getLocale()}.</p>
+     * @param player Player to use
+     * @return Player Locale
+     * @since 1.0.0
+     */
+    @NotNull
+    default Locale getLocale(@Nullable OfflinePlayer player) {
+        if (player == null) return getLocale();
+
+        String language = DivPlayer.getLanguage(player);
+        if (language.isEmpty() && player.isOnline()) {
+            String client = player.getPlayer().getLocale();
+            if (client != null && !client.isEmpty()) language = client.split("_")[0];
+        }
+
+        return isSupported(language) ? new Locale(language.toLowerCase()) : getLocale();
+    }
+
+    /**
+     * Whether messages are available in the given language.
+     * @param language Language Code
+     * @return true if supported, false otherwise
+     * @since 1.0.0
+     */
+    default boolean isSupported(@Nullable String language) {
+        if (language == null || language.isEmpty()) return false;
+        return PlayerSetting.LANGUAGE.getPossibleValues().contains(language.toLowerCase());
+    }
+
     /**
      * Fetches the current language in the configuration.
      * @return Current Language
@@ -125,4 +227,55 @@ public interface DivConfig {
      */
     int getMaxDivisionSize();
 
+    /**
+     * Fetches the configuration's interval between Division saves, in seconds.
+     * @return Save Interval
+     * @since 1.0.0
+     */
+    int getSaveInterval();
+
+    /**
+     * Fetches the configuration's interval between committing experience added to Divisions, in ticks.
+     * @return Experience Commit Interval
+     * @since 1.0.0
+     */
+    int getExperienceInterval();
+
+    /**
+     * Fetches the amount of recent chat messages kept in memory for each Division.
+     * @return Chat History Size
+     * @since 1.0.0
+     */
+    int getChatHistorySize();
+
+    /**
+     * Fetches the storage that Divisions are loaded from and saved to.
+     * @return Division Storage
+     * @since 1.0.0
+     */
+    @NotNull
+    DivisionStorage getStorage();
+
+    /**
+     * Whether only the header of each Division (name, owner, members and level) is kept in memory, loading the rest of
+     * its data when first used.
+     * @return true if lazy loading is enabled, false otherwise
+     * @since 1.0.0
+     */
+    boolean isLazyLoading();
+
+    /**
+     * Fetches the maximum amount of Divisions that can have all of their data loaded at once, when lazy loading is enabled.
+     * @return Maximum Loaded Divisions
+     * @since 1.0.0
+     */
+    int getMaxLoadedDivisions();
+
+    /**
+     * Fetches the time after which an unused Division's data is unloaded, in seconds, when lazy loading is enabled.
+     * @return Division Idle Time
+     * @since 1.0.0
+     */
+    int getDivisionIdleTime();
+
 }
@@ -0,0 +1,12 @@
+package us.teaminceptus.divisions.api;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+final class ReloadListeners {
+
+    static final List<Runnable> LISTENERS = new CopyOnWriteArrayList<>();
+
+    private ReloadListeners() { throw new UnsupportedOperationException("This class should not be instantiated"); }
+
+}
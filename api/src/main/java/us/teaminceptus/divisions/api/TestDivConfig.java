@@ -1,8 +1,15 @@
 package us.teaminceptus.divisions.api;
 
 import us.teaminceptus.divisions.api.division.Division;
+import us.teaminceptus.divisions.api.division.DivisionStorage;
+
+import java.io.File;
+import java.util.Locale;
 
 class TestDivConfig implements DivConfig {
+
+    private static final DivisionStorage STORAGE = DivisionStorage.file(new File(System.getProperty("java.io.tmpdir"), "divisions"));
+
     @Override
     public String get(String key) {
         return "";
@@ -13,6 +20,16 @@ class TestDivConfig implements DivConfig {
         return "";
     }
 
+    @Override
+    public String get(String key, Locale locale) {
+        return "";
+    }
+
+    @Override
+    public String format(String key, Locale locale, Object... args) {
+        return "";
+    }
+
     @Override
     public String getLanguage() {
         return "en";
@@ -22,4 +39,39 @@ class TestDivConfig implements DivConfig {
     public int getMaxDivisionSize() {
         return Division.MAX_PLAYERS;
     }
-}
+
+    @Override
+    public int getSaveInterval() {
+        return 30;
+    }
+
+    @Override
+    public int getExperienceInterval() {
+        return 20;
+    }
+
+    @Override
+    public DivisionStorage getStorage() {
+        return STORAGE;
+    }
+
+    @Override
+    public boolean isLazyLoading() {
+        return false;
+    }
+
+    @Override
+    public int getMaxLoadedDivisions() {
+        return 1000;
+    }
+
+    @Override
+    public int getDivisionIdleTime() {
+        return 600;
+    }
+
+    @Override
+    public int getChatHistorySize() {
+        return 100;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,109 @@
+package us.teaminceptus.divisions.api.division;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * <p>Represents a per-Division value that {@link DivisionAchievement}s are earned from.</p>
+ * <p>Each Achievement belongs to a single counter with its level thresholds. When a counter changes, only the
+ * Achievements of that counter are checked for the Division that changed; Achievement levels are never lowered, and
+ * the {@link DivisionAchievement#getExperienceIncrease(int)} of every newly reached level is added to the Division.</p>
+ * @since 1.0.0
+ */
+public final class AchievementCounter {
+
+    /**
+     * Represents the amount of members in a Division.
+     * @since 1.0.0
+     */
+    public static final AchievementCounter MEMBERS = new AchievementCounter("members", d -> d.members.size());
+
+    /**
+     * Represents the experience of a Division.
+     * @since 1.0.0
+     */
+    public static final AchievementCounter EXPERIENCE = new AchievementCounter("experience", d -> d.experience);
+
+    private final String key;
+    private final ToDoubleFunction<Division> source;
+    final List<DivisionAchievement> achievements = new CopyOnWriteArrayList<>();
+
+    private AchievementCounter(String key, ToDoubleFunction<Division> source) {
+        this.key = key;
+        this.source = source;
+    }
+
+    /**
+     * Fetches the key of this counter.
+     * @return Counter Key
+     * @since 1.0.0
+     */
+    @NotNull
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Fetches the Achievements earned from this counter.
+     * @return Achievements using this counter
+     * @since 1.0.0
+     */
+    @NotNull
+    @Unmodifiable
+    public List<DivisionAchievement> getAchievements() {
+        return Collections.unmodifiableList(achievements);
+    }
+
+    /**
+     * Fetches the value of this counter for a Division.
+     * @param d Division to use
+     * @return Counter Value
+     * @since 1.0.0
+     * @throws IllegalArgumentException if division is null
+     */
+    public double get(@NotNull Division d) throws IllegalArgumentException {
+        if (d == null) throw new IllegalArgumentException("Division cannot be null");
+        return source.applyAsDouble(d);
+    }
+
+    void update(@NotNull Division d, double previous) {
+        double bonus = evaluate(d, previous);
+        if (bonus > 0) d.addExpereince(bonus);
+    }
+
+    // Sets the newly reached levels of this counter's Achievements, returning the experience to add for them
+    double evaluate(@NotNull Division d, double previous) {
+        if (achievements.isEmpty()) return 0;
+
+        double value = get(d);
+        double bonus = 0;
+
+        for (DivisionAchievement achievement : achievements) {
+            int level = achievement.getLevel(value);
+            if (level == 0) continue;
+
+            // Avoid loading the body unless a level may have been reached
+            int known = d.getKnownAchievementLevel(achievement);
+            if (known >= 0 ? level <= known : level == achievement.getLevel(previous)) continue;
+
+            int current = d.getAchievementLevel(achievement);
+            if (level <= current) continue;
+
+            d.setAchievementLevel(achievement, level);
+            for (int i = current + 1; i <= level; i++) bonus += achievement.getExperienceIncrease(i);
+        }
+
+        return bonus;
+    }
+
+    @Override
+    public String toString() {
+        return "AchievementCounter{key=" + key + "}";
+    }
+
+}
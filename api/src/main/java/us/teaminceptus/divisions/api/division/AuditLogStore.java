@@ -0,0 +1,172 @@
+package us.teaminceptus.divisions.api.division;
+
+import org.jetbrains.annotations.NotNull;
+import us.teaminceptus.divisions.api.division.logs.AuditLogEntry;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>Append-only store for a Division's Audit Log, split into segment files of a fixed maximum size.</p>
+ * <p>Each segment is a sequence of length-prefixed entries. The index file holds the number and first timestamp of
+ * every segment, so that time ranges can be found without reading earlier segments.</p>
+ */
+final class AuditLogStore {
+
+    static final String DIRECTORY = "audit";
+    static final int SEGMENT_SIZE = 64 * 1024;
+
+    private static final String INDEX = "index.dat";
+    private static final int INDEX_RECORD = Integer.BYTES + Long.BYTES;
+
+    private final File directory;
+
+    AuditLogStore(@NotNull File folder) {
+        this.directory = new File(folder, DIRECTORY);
+    }
+
+    boolean exists() {
+        return new File(directory, INDEX).exists();
+    }
+
+    // Writing
+
+    void append(@NotNull List<AuditLogEntry> entries) throws IOException {
+        if (entries.isEmpty()) return;
+        if (!directory.exists()) directory.mkdirs();
+
+        int segment = lastSegment();
+        long size = segment == -1 ? 0 : segment(segment).length();
+
+        DataOutputStream os = null;
+        try {
+            for (AuditLogEntry entry : entries) {
+                byte[] data = DivisionCodec.encodeEntry(entry);
+                int length = Integer.BYTES + data.length;
+
+                if (segment == -1 || (size > 0 && size + length > SEGMENT_SIZE)) {
+                    if (os != null) os.close();
+                    os = null;
+
+                    segment++;
+                    size = 0;
+                    writeIndex(segment, entry.getTimestamp().getTime());
+                }
+
+                if (os == null) os = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(segment(segment), true)));
+
+                os.writeInt(data.length);
+                os.write(data);
+                size += length;
+            }
+        } finally {
+            if (os != null) os.close();
+        }
+    }
+
+    private void writeIndex(int segment, long firstTimestamp) throws IOException {
+        try (DataOutputStream os = new DataOutputStream(new FileOutputStream(new File(directory, INDEX), true))) {
+            os.writeInt(segment);
+            os.writeLong(firstTimestamp);
+        }
+    }
+
+    void delete() throws IOException {
+        File[] files = directory.listFiles();
+        if (files != null) for (File f : files) Files.deleteIfExists(f.toPath());
+
+        Files.deleteIfExists(directory.toPath());
+    }
+
+    // Reading
+
+    @NotNull
+    List<AuditLogEntry> readAll() throws IOException {
+        return read(Long.MIN_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    @NotNull
+    List<AuditLogEntry> read(long from, long to, int limit) throws IOException {
+        List<AuditLogEntry> entries = new ArrayList<>();
+        long[][] index = readIndex();
+        if (index.length == 0 || limit <= 0) return entries;
+
+        // Last segment starting at or before "from"
+        int low = 0, high = index.length - 1, start = 0;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (index[mid][1] <= from) {
+                start = mid;
+                low = mid + 1;
+            } else high = mid - 1;
+        }
+
+        for (int i = start; i < index.length; i++) {
+            if (index[i][1] > to) break;
+
+            File file = segment((int) index[i][0]);
+            if (!file.exists()) continue;
+
+            try (DataInputStream is = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+                while (true) {
+                    byte[] data;
+                    try {
+                        int length = is.readInt();
+                        if (length < 0 || length > SEGMENT_SIZE) break;
+
+                        data = new byte[length];
+                        is.readFully(data);
+                    } catch (EOFException e) {
+                        // End of Segment, or an incomplete trailing entry
+                        break;
+                    }
+
+                    AuditLogEntry entry = DivisionCodec.decodeEntry(data);
+                    if (entry == null) continue;
+
+                    long timestamp = entry.getTimestamp().getTime();
+                    if (timestamp < from) continue;
+                    if (timestamp > to) return entries;
+
+                    entries.add(entry);
+                    if (entries.size() >= limit) return entries;
+                }
+            }
+        }
+
+        return entries;
+    }
+
+    @NotNull
+    private long[][] readIndex() throws IOException {
+        File file = new File(directory, INDEX);
+        if (!file.exists()) return new long[0][];
+
+        byte[] data = Files.readAllBytes(file.toPath());
+        long[][] index = new long[data.length / INDEX_RECORD][];
+
+        try (DataInputStream is = new DataInputStream(new ByteArrayInputStream(data))) {
+            for (int i = 0; i < index.length; i++) index[i] = new long[] { is.readInt(), is.readLong() };
+        }
+
+        return index;
+    }
+
+    private int lastSegment() throws IOException {
+        File file = new File(directory, INDEX);
+        if (!file.exists() || file.length() < INDEX_RECORD) return -1;
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            raf.seek((file.length() / INDEX_RECORD - 1) * INDEX_RECORD);
+            return raf.readInt();
+        }
+    }
+
+    @NotNull
+    private File segment(int segment) {
+        return new File(directory, String.format("%08d.seg", segment));
+    }
+
+}
@@ -0,0 +1,71 @@
+package us.teaminceptus.divisions.api.division;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed-capacity ring buffer of a Division's most recent chat messages, holding only messages sent today.
+ */
+final class ChatHistory {
+
+    private final long[] timestamps;
+    private final String[] messages;
+
+    private int head = 0;
+    private int size = 0;
+
+    // Day of the messages in this buffer, which is cleared on the first message of a new day
+    private long day = Long.MIN_VALUE;
+
+    ChatHistory(int capacity) {
+        this.timestamps = new long[capacity];
+        this.messages = new String[capacity];
+    }
+
+    synchronized void add(long timestamp, @NotNull String message) {
+        long day = day(timestamp);
+        if (day != this.day) {
+            head = 0;
+            size = 0;
+            this.day = day;
+        }
+
+        timestamps[head] = timestamp;
+        messages[head] = message;
+
+        head = (head + 1) % messages.length;
+        if (size < messages.length) size++;
+    }
+
+    synchronized int size() {
+        return day == day(System.currentTimeMillis()) ? size : 0;
+    }
+
+    /**
+     * Fetches messages from this buffer, oldest first.
+     * @param offset Amount of most recent messages to skip
+     * @param limit Maximum amount of messages to return
+     */
+    @NotNull
+    synchronized List<String> get(int offset, int limit) {
+        int end = Math.max(0, size() - offset);
+        int start = Math.max(0, end - limit);
+
+        List<String> list = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            int index = Math.floorMod(head - size + i, messages.length);
+            list.add(DivisionLogWriter.format(timestamps[index], messages[index]));
+        }
+
+        return list;
+    }
+
+    private static long day(long timestamp) {
+        return Instant.ofEpochMilli(timestamp).atZone(ZoneId.systemDefault()).toLocalDate().toEpochDay();
+    }
+
+}
@@ -1,15 +1,16 @@
 package us.teaminceptus.divisions.api.division;
 
 import com.google.common.collect.ImmutableList;
+import org.bukkit.OfflinePlayer;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 import us.teaminceptus.divisions.api.DivConfig;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents settings for a {@link Division}.
@@ -19,34 +20,17 @@ import java.util.List;
 @SuppressWarnings("unchecked")
 public final class DivSetting<T> {
 
-    private static final DivSetting<?>[] VALUES;
-
-    static {
-        List<DivSetting<?>> values = new ArrayList<>();
-
-        try {
-            for (Field f : DivSetting.class.getDeclaredFields()) {
-                if (!Modifier.isFinal(f.getModifiers())) continue;
-                if (!Modifier.isStatic(f.getModifiers())) continue;
-                if (!Modifier.isPublic(f.getModifiers())) continue;
-                if (!DivSetting.class.isAssignableFrom(f.getType())) continue;
-
-                f.setAccessible(true);
-                values.add((DivSetting<?>) f.get(null));
-            }
-        } catch (ReflectiveOperationException e) {
-            DivConfig.print(e);
-        }
-
-        VALUES = values.toArray(DivSetting[]::new);
-    }
+    // Registered settings, indexed by ordinal
+    private static volatile DivSetting<?>[] VALUES = new DivSetting<?>[0];
+    private static final Map<String, DivSetting<?>> BY_KEY = new ConcurrentHashMap<>();
 
     /**
      * Setting for Divisions to have colored chat.
      * @since 1.0.0
      */
-    public static final DivSetting<Boolean> COLOR_CHAT = ofBoolean(3, "color-chat", "settings.division.color_chat", true);
+    public static final DivSetting<Boolean> COLOR_CHAT = registerBoolean(3, "color-chat", "settings.division.color_chat", true);
 
+    private final int ordinal;
     private final int unlockedLevel;
     private final String displayKey;
     private final String key;
@@ -55,7 +39,8 @@ public final class DivSetting<T> {
     private final List<T> possibleValues;
 
     @SafeVarargs
-    DivSetting(int unlockedLevel, String key, String displayKey, Class<T> type, T defaultV, T... possibleValues) {
+    private DivSetting(int ordinal, int unlockedLevel, String key, String displayKey, Class<T> type, T defaultV, T... possibleValues) {
+        this.ordinal = ordinal;
         this.unlockedLevel = unlockedLevel;
         this.displayKey = displayKey;
         this.key = key;
@@ -64,16 +49,95 @@ public final class DivSetting<T> {
         this.possibleValues = Arrays.asList(possibleValues);
     }
 
-    // Default Value Impl
+    // Registration
+
+    /**
+     * Registers a new DivSetting, such as one used by an add-on.
+     * @param unlockedLevel Division Level the setting is unlocked at
+     * @param key Unique key of the setting, used when saving Divisions
+     * @param displayKey Message key of the setting's display name
+     * @param type Type of the setting
+     * @param def Default value of the setting
+     * @param possibleValues Possible values of the setting
+     * @return Registered DivSetting
+     * @param <T> Type of the setting
+     * @since 1.0.0
+     * @throws IllegalArgumentException if any argument is null, or a setting with this key is already registered
+     */
+    @NotNull
+    @SafeVarargs
+    public static synchronized <T> DivSetting<T> register(int unlockedLevel, @NotNull String key, @NotNull String displayKey, @NotNull Class<T> type, @NotNull T def, @NotNull T... possibleValues) throws IllegalArgumentException {
+        if (key == null) throw new IllegalArgumentException("Key cannot be null");
+        if (displayKey == null) throw new IllegalArgumentException("Display Key cannot be null");
+        if (type == null) throw new IllegalArgumentException("Type cannot be null");
+        if (def == null) throw new IllegalArgumentException("Default Value cannot be null");
+        if (possibleValues == null) throw new IllegalArgumentException("Possible Values cannot be null");
+        if (BY_KEY.containsKey(key)) throw new IllegalArgumentException("Setting \"" + key + "\" is already registered");
+
+        DivSetting<?>[] values = VALUES;
+        DivSetting<T> setting = new DivSetting<>(values.length, unlockedLevel, key, displayKey, type, def, possibleValues);
+
+        DivSetting<?>[] newValues = Arrays.copyOf(values, values.length + 1);
+        newValues[setting.ordinal] = setting;
+        BY_KEY.put(key, setting);
+        VALUES = newValues;
+
+        // Values saved before this setting was registered
+        for (Division d : DivisionRegistry.getDivisions()) d.resolveSetting(setting);
+
+        return setting;
+    }
+
+    // Removes the most recently registered setting, keeping ordinals contiguous; used by tests
+    static synchronized void unregister(@NotNull DivSetting<?> setting) {
+        DivSetting<?>[] values = VALUES;
+        if (setting.ordinal != values.length - 1 || values[setting.ordinal] != setting)
+            throw new IllegalArgumentException("Only the last registered setting can be unregistered");
 
+        BY_KEY.remove(setting.key);
+        VALUES = Arrays.copyOf(values, values.length - 1);
+    }
+
+    /**
+     * Registers a new true/false DivSetting.
+     * @param unlockedLevel Division Level the setting is unlocked at
+     * @param key Unique key of the setting, used when saving Divisions
+     * @param displayKey Message key of the setting's display name
+     * @param def Default value of the setting
+     * @return Registered DivSetting
+     * @since 1.0.0
+     * @throws IllegalArgumentException if any argument is null, or a setting with this key is already registered
+     */
     @NotNull
-    private static DivSetting<Boolean> ofBoolean(int unlockedLevel, String key, String displayKey, boolean def) {
-        return new DivSetting<>(unlockedLevel, key, displayKey, Boolean.class, def, true, false);
+    public static DivSetting<Boolean> registerBoolean(int unlockedLevel, @NotNull String key, @NotNull String displayKey, boolean def) throws IllegalArgumentException {
+        return register(unlockedLevel, key, displayKey, Boolean.class, def, true, false);
     }
 
+    /**
+     * Registers a new DivSetting for all constants of an enum.
+     * @param unlockedLevel Division Level the setting is unlocked at
+     * @param key Unique key of the setting, used when saving Divisions
+     * @param displayKey Message key of the setting's display name
+     * @param def Default value of the setting
+     * @return Registered DivSetting
+     * @param <T> Type of the setting
+     * @since 1.0.0
+     * @throws IllegalArgumentException if any argument is null, or a setting with this key is already registered
+     */
     @NotNull
-    private static <T extends Enum<T>> DivSetting<T> ofEnum(int unlockedLevel, String key, String displayKey, T def) {
-        return new DivSetting<>(unlockedLevel, key, displayKey, (Class<T>) def.getClass(), def, (T[]) def.getClass().getEnumConstants());
+    public static <T extends Enum<T>> DivSetting<T> registerEnum(int unlockedLevel, @NotNull String key, @NotNull String displayKey, @NotNull T def) throws IllegalArgumentException {
+        if (def == null) throw new IllegalArgumentException("Default Value cannot be null");
+        Class<T> type = def.getDeclaringClass();
+        return register(unlockedLevel, key, displayKey, type, def, type.getEnumConstants());
+    }
+
+    /**
+     * Fetches the index of this DivSetting, assigned in order of registration.
+     * @return DivSetting Index
+     * @since 1.0.0
+     */
+    public int ordinal() {
+        return ordinal;
     }
 
     /**
@@ -86,6 +150,19 @@ public final class DivSetting<T> {
         return DivConfig.getConfiguration().get(displayKey);
     }
 
+    /**
+     * Fetches the display name of this DivSetting in the language of the given player.
+     * @param player Player to use
+     * @return Display Name
+     * @since 1.0.0
+     * @see DivConfig#getLocale(OfflinePlayer)
+     */
+    @NotNull
+    public String getDisplayName(@Nullable OfflinePlayer player) {
+        DivConfig config = DivConfig.getConfiguration();
+        return config.get(displayKey, config.getLocale(player));
+    }
+
     /**
      * Fetches the key of this DivSetting.
      * @return DivSetting Key
@@ -136,11 +213,49 @@ public final class DivSetting<T> {
     }
 
     /**
-     * Fetches all of the DivSettings.
+     * Whether this DivSetting is unlocked at a Division Level.
+     * @param level Division Level
+     * @return true if unlocked, false otherwise
+     * @since 1.0.0
+     */
+    public boolean isUnlocked(int level) {
+        return level >= unlockedLevel;
+    }
+
+    @Override
+    public String toString() {
+        return "DivSetting{key=" + key + ", ordinal=" + ordinal + "}";
+    }
+
+    /**
+     * Fetches all of the registered DivSettings, in order of registration.
      * @return All DivSettings
      * @since 1.0.0
      */
+    @NotNull
     public static DivSetting<?>[] values() {
-        return VALUES;
+        return VALUES.clone();
+    }
+
+    /**
+     * Fetches the amount of registered DivSettings.
+     * @return DivSetting Count
+     * @since 1.0.0
+     */
+    public static int count() {
+        return VALUES.length;
     }
+
+    /**
+     * Fetches a registered DivSetting by its key.
+     * @param key Key of the setting
+     * @return DivSetting with this key, or null if not found
+     * @since 1.0.0
+     */
+    @Nullable
+    public static DivSetting<?> byKey(@Nullable String key) {
+        if (key == null) return null;
+        return BY_KEY.get(key);
+    }
+
 }
@@ -7,6 +7,7 @@ import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Location;
 import org.bukkit.OfflinePlayer;
+import org.bukkit.World;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
@@ -18,13 +19,18 @@ import us.teaminceptus.divisions.api.division.logs.AuditLogEntry;
 import us.teaminceptus.divisions.api.events.division.DivisionBanEvent;
 import us.teaminceptus.divisions.api.events.division.DivisionCreateEvent;
 import us.teaminceptus.divisions.api.events.division.DivisionKickEvent;
+import us.teaminceptus.divisions.api.events.division.DivisionLevelChangeEvent;
 import us.teaminceptus.divisions.api.events.division.DivisionUnbanEvent;
 
 import java.io.*;
 import java.nio.file.Files;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.DoubleAdder;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Represents a Division
@@ -42,44 +48,125 @@ public final class Division {
     public static final int MAX_PLAYERS = 1000;
 
     /**
-     * The prefix used for communication in Divisions.
+     * The prefix used for communication in Divisions, as of when this class was loaded.
      * @since 1.0.0
+     * @deprecated Does not change when the configuration is reloaded; use {@link #getChatPrefix()}
      */
-    public static final String CHAT_PREFIX = ChatColor.DARK_GREEN
-            + DivConfig.getConfiguration().get("constants.division")
-            + ChatColor.WHITE + " > ";
+    @Deprecated
+    public static final String CHAT_PREFIX = createChatPrefix();
+
+    private static volatile String chatPrefix = CHAT_PREFIX;
+
+    // Chat Prefix per language
+    private static final Map<String, String> CHAT_PREFIXES = new ConcurrentHashMap<>();
+
+    static {
+        DivConfig.addReloadListener(() -> {
+            chatPrefix = createChatPrefix();
+            CHAT_PREFIXES.clear();
+        });
+    }
+
+    private static String createChatPrefix() {
+        return ChatColor.DARK_GREEN + DivConfig.getConfiguration().get("constants.division") + ChatColor.WHITE + " > ";
+    }
+
+    /**
+     * Fetches the prefix used for communication in Divisions.
+     * @return Chat Prefix
+     * @since 1.0.0
+     */
+    @NotNull
+    public static String getChatPrefix() {
+        return chatPrefix;
+    }
+
+    /**
+     * Fetches the prefix used for communication in Divisions, in the language of the given player.
+     * @param player Player to use
+     * @return Chat Prefix
+     * @since 1.0.0
+     * @see DivConfig#getLocale(OfflinePlayer)
+     */
+    @NotNull
+    public static String getChatPrefix(@Nullable OfflinePlayer player) {
+        Locale locale = DivConfig.getConfiguration().getLocale(player);
+        return CHAT_PREFIXES.computeIfAbsent(locale.getLanguage(), k ->
+                ChatColor.DARK_GREEN + DivConfig.getConfiguration().get("constants.division", locale) + ChatColor.WHITE + " > ");
+    }
 
     // Fields
 
     private final File folder;
 
-    private final UUID id;
-    private final long creationDate;
-    private final OfflinePlayer owner;
+    final UUID id;
+    final long creationDate;
+    final OfflinePlayer owner;
 
-    private String name;
-    private Location home = null;
-    private double experience = 0.0;
-    private String prefix = null;
-    private String tagline = "";
+    String name;
+    Location home = null;
 
-    private final Map<DivSetting<?>, Object> settings = new HashMap<>();
+    // Name of the home's world while it is not loaded, in which case the home has no world
+    String homeWorld = null;
+    double experience = 0.0;
+    String prefix = null;
+    String tagline = "";
 
-    private final List<AuditLogEntry> auditLog = new ArrayList<>();
+    // Setting values indexed by DivSetting#ordinal, null for the default value
+    private Object[] settings = new Object[DivSetting.count()];
 
-    private final Map<DivisionAchievement, Integer> achievements = new EnumMap<>(DivisionAchievement.class);
+    // Saved values of settings that are not registered yet, such as those of add-ons loading after Divisions
+    final Map<String, Object> unknownSettings = new HashMap<>();
 
-    private final Set<OfflinePlayer> members = new HashSet<>();
+    // Audit log entries that have not been written to storage yet, oldest first; the rest are read from storage
+    final List<AuditLogEntry> auditLog = new ArrayList<>();
 
-    private final Set<UUID> banList = new HashSet<>();
+    final Map<DivisionAchievement, Integer> achievements = new EnumMap<>(DivisionAchievement.class);
 
-    private final Map<SocialMedia, String> socialMedia = new EnumMap<>(SocialMedia.class);
+    // Achievement levels kept while the body is unloaded, or -1 if the body has not been loaded
+    private final int[] achievementLevels = new int[DivisionAchievement.values().length];
+
+    final Set<OfflinePlayer> members = new HashSet<>();
+
+    final Set<UUID> banList = new HashSet<>();
+
+    final Map<SocialMedia, String> socialMedia = new EnumMap<>(SocialMedia.class);
+
+    private final Set<Section> dirty = EnumSet.noneOf(Section.class);
+
+    // Last encoded content of each section, written together by DivisionCodec
+    final byte[][] encoded = new byte[Section.values().length][];
+
+    // Amount of entries at the start of the audit log handed to a write that has not finished
+    private int queuedAuditLog = 0;
+
+    // Changed when an audit log write fails, so that writes queued after it do not write their entries out of order
+    private int auditGeneration = 0;
+
+    // Writes from snapshot() that have not finished, during which the body cannot be unloaded
+    private int writes = 0;
+
+    // Recent chat messages, created on the first message
+    private volatile ChatHistory chat = null;
+
+    private static final AtomicReferenceFieldUpdater<Division, ChatHistory> CHAT = AtomicReferenceFieldUpdater.newUpdater(Division.class, ChatHistory.class, "chat");
+
+    // Experience added since the last commit; see ExperienceAccumulator
+    final DoubleAdder pendingExperience = new DoubleAdder();
+
+    // Level for the experience it was last computed from, replaced as a whole so readers never see a torn pair
+    private volatile CachedLevel level = new CachedLevel(Double.NaN, 0);
+
+    // Whether the body sections are in memory; see Section#BODY
+    volatile boolean bodyLoaded = true;
+    volatile long lastAccess = System.currentTimeMillis();
 
     {
         for (DivisionAchievement value : DivisionAchievement.values()) achievements.putIfAbsent(value, 0);
+        Arrays.fill(achievementLevels, -1);
     }
 
-    private Division(File folder, UUID id, long creationDate, OfflinePlayer owner) {
+    Division(File folder, UUID id, long creationDate, OfflinePlayer owner) {
         this.folder = folder;
 
         this.id = id;
@@ -115,8 +202,10 @@ public final class Division {
     public void setName(@NotNull String name) {
         if (name == null) throw new IllegalArgumentException("Division name cannot be null");
 
+        String old = this.name;
         this.name = name;
-        save();
+        DivisionRegistry.rename(this, old);
+        save(Section.OTHER);
     }
 
     /**
@@ -150,12 +239,21 @@ public final class Division {
     }
 
     /**
-     * Fetches the home of this Division. May be null.
+     * Fetches the home of this Division. May be null, including while the home's world is not loaded.
      * @return Division Home
      * @since 1.0.0
      */
     @Nullable
     public Location getHome() {
+        String world = homeWorld;
+        if (world != null) {
+            World w = Bukkit.getWorld(world);
+            if (w == null) return null;
+
+            home.setWorld(w);
+            homeWorld = null;
+        }
+
         return home;
     }
 
@@ -166,7 +264,8 @@ public final class Division {
      */
     public void setHome(@Nullable Location home) {
         this.home = home;
-        save();
+        this.homeWorld = null;
+        save(Section.OTHER);
     }
 
     /**
@@ -220,13 +319,17 @@ public final class Division {
 
         if (members.size() >= DivConfig.getConfiguration().getMaxDivisionSize()) throw new IllegalStateException("Division is full");
 
+        loadBody();
         members.add(player);
+        DivisionRegistry.addMember(this, player.getUniqueId());
+        AchievementCounter.MEMBERS.update(this, members.size() - 1);
 
         AuditLogEntry entry = new AuditLogEntry(new Date(), AuditLogEntry.Action.MEMBER_JOINED, player);
-        auditLog.add(entry);
+        addAuditLog(entry);
         writeLog(entry);
 
-        save();
+        if (save) save(Section.MEMBERS, Section.AUDIT_LOG);
+        else markDirty(Section.MEMBERS, Section.AUDIT_LOG);
     }
 
     /**
@@ -257,7 +360,7 @@ public final class Division {
         if (members.size() + toAdd.size() >= DivConfig.getConfiguration().getMaxDivisionSize()) throw new IllegalStateException("Division cannot support that many members (" + toAdd.size() + ")");
 
         for (OfflinePlayer player : toAdd) addMember(player, false);
-        save();
+        save(Section.MEMBERS, Section.AUDIT_LOG);
     }
 
     /***
@@ -285,16 +388,19 @@ public final class Division {
         if (player == null) throw new IllegalArgumentException("Player cannot be null");
         if (!members.contains(player)) throw new IllegalArgumentException("Player is not a member of this division");
 
+        loadBody();
         members.remove(player);
+        DivisionRegistry.removeMember(this, player.getUniqueId());
 
         DivisionKickEvent event = new DivisionKickEvent(this, player, initiator);
         Bukkit.getPluginManager().callEvent(event);
 
         AuditLogEntry entry = new AuditLogEntry(new Date(), AuditLogEntry.Action.MEMBER_KICKED, player.getName(), event.getInitiator());
-        auditLog.add(entry);
+        addAuditLog(entry);
         writeLog(entry);
 
-        if (save) save();
+        if (save) save(Section.MEMBERS, Section.AUDIT_LOG);
+        else markDirty(Section.MEMBERS, Section.AUDIT_LOG);
     }
 
     /**
@@ -320,7 +426,7 @@ public final class Division {
         if (players == null) throw new IllegalArgumentException("Players cannot be null");
 
         for (OfflinePlayer player : players) if (isMember(player)) kickMember(player, initiator, false);
-        save();
+        save(Section.MEMBERS, Section.AUDIT_LOG);
     }
 
     /**
@@ -332,6 +438,7 @@ public final class Division {
      */
     public int getAchievementLevel(@NotNull DivisionAchievement achievement) throws IllegalArgumentException {
         if (achievement == null) throw new IllegalArgumentException("Achievement cannot be null");
+        loadBody();
         return achievements.getOrDefault(achievement, 0);
     }
 
@@ -346,8 +453,17 @@ public final class Division {
         if (achievement == null) throw new IllegalArgumentException("Achievement cannot be null");
         if (value < 0 || value > achievement.getMaxLevel()) throw new IllegalArgumentException("Value cannot be negative or greater than max level");
 
+        loadBody();
         achievements.put(achievement, value);
-        save();
+        save(Section.ACHIEVEMENTS);
+    }
+
+    // Level of an Achievement without loading the body, or -1 if unknown
+    int getKnownAchievementLevel(@NotNull DivisionAchievement achievement) {
+        synchronized (dirty) {
+            if (bodyLoaded) return achievements.getOrDefault(achievement, 0);
+            return achievementLevels[achievement.ordinal()];
+        }
     }
 
     /**
@@ -371,6 +487,7 @@ public final class Division {
     public String getSocialMedia(@NotNull SocialMedia media) throws IllegalArgumentException {
         if (media == null) throw new IllegalArgumentException("Social Media cannot be null");
 
+        loadBody();
         return socialMedia.getOrDefault(media, "");
     }
 
@@ -385,8 +502,9 @@ public final class Division {
         if (media == null) throw new IllegalArgumentException("Social Media cannot be null");
         if (!media.isValidLink(link)) throw new IllegalArgumentException("Invalid Link for SocialMedia " + media.name());
 
+        loadBody();
         socialMedia.put(media, link);
-        save();
+        save(Section.SOCIALS);
     }
 
     /**
@@ -400,7 +518,8 @@ public final class Division {
     }
 
     /**
-     * Fetches the experience amount of this Division.
+     * Fetches the experience amount of this Division, not including experience waiting to be committed by the
+     * {@link ExperienceAccumulator}.
      * @return Division Experience
      * @since 1.0.0
      */
@@ -416,16 +535,38 @@ public final class Division {
      */
     public void setExperience(double experience) throws IllegalArgumentException {
         if (experience < 0) throw new IllegalArgumentException("Experience cannot be negative");
+
+        int oldLevel = getLevel();
+        double previous = this.experience;
         this.experience = experience;
-        save();
+
+        // Achievement bonuses are part of the same change, so that the level event is only called once
+        for (double bonus; (bonus = AchievementCounter.EXPERIENCE.evaluate(this, previous)) > 0; ) {
+            previous = this.experience;
+            this.experience += bonus;
+        }
+
+        save(Section.OTHER);
+        if (DivisionRegistry.byId(id) == this) DivisionLeaderboard.update(this);
+
+        int newLevel = getLevel();
+        if (oldLevel != newLevel) Bukkit.getPluginManager().callEvent(new DivisionLevelChangeEvent(this, oldLevel, newLevel));
     }
 
     /**
-     * Adds experience to this Division.
+     * <p>Adds experience to this Division.</p>
+     * <p>While the {@link ExperienceAccumulator} is running, positive amounts are collected and added on its next
+     * commit, and may be called from any thread.</p>
      * @param experience Experience to add
      * @since 1.0.0
      */
     public void addExpereince(double experience) {
+        if (experience > 0 && ExperienceAccumulator.isRunning()) {
+            ExperienceAccumulator.grant(this, experience);
+            return;
+        }
+
+        ExperienceAccumulator.commit(this);
         setExperience(getExperience() + experience);
     }
 
@@ -436,6 +577,7 @@ public final class Division {
      * @throws IllegalArgumentException if removed amount turns the balance to negative
      */
     public void removeExperience(double experience) throws IllegalArgumentException {
+        ExperienceAccumulator.commit(this);
         setExperience(getExperience() - experience);
     }
 
@@ -445,7 +587,14 @@ public final class Division {
      * @since 1.0.0
      */
     public int getLevel() {
-        return toLevel(experience);
+        double experience = this.experience;
+        CachedLevel cached = level;
+        if (Double.compare(experience, cached.experience) != 0) {
+            cached = new CachedLevel(experience, toLevel(experience));
+            level = cached;
+        }
+
+        return cached.level;
     }
 
     /**
@@ -456,8 +605,7 @@ public final class Division {
      */
     public void setLevel(int level) throws IllegalArgumentException {
         if (level < 0) throw new IllegalArgumentException("Level cannot be negative");
-        this.experience = toExperience(level);
-        save();
+        setExperience(toExperience(level));
     }
 
     /**
@@ -477,7 +625,7 @@ public final class Division {
      */
     public void setPrefix(@Nullable String prefix) {
         this.prefix = prefix;
-        save();
+        save(Section.OTHER);
     }
 
     /**
@@ -507,7 +655,7 @@ public final class Division {
     public void setTagline(@NotNull String tagline) throws IllegalArgumentException {
         if (tagline == null) throw new IllegalArgumentException("Tagline cannot be null");
         this.tagline = tagline;
-        save();
+        save(Section.OTHER);
     }
 
     /**
@@ -519,14 +667,36 @@ public final class Division {
     }
 
     /**
-     * Fetches an immutable list of the message log for this Division.
+     * Fetches an immutable list of the messages sent in this Division today, oldest first.
      * @return Message Log
      * @since 1.0.0
+     * @see #getMessageLog(int, int)
      */
     @Unmodifiable
     @NotNull
     public List<String> getMessageLog() {
-        return ImmutableList.copyOf(getLog("chat"));
+        return getMessageLog(0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * <p>Fetches an immutable page of the messages sent in this Division today, oldest first.</p>
+     * <p>Recent messages are kept in memory, while older messages are read from today's message log.</p>
+     * @param offset Amount of most recent messages to skip
+     * @param limit Maximum amount of messages to return
+     * @return Message Log
+     * @since 1.0.0
+     * @throws IllegalArgumentException if offset or limit is negative
+     */
+    @Unmodifiable
+    @NotNull
+    public List<String> getMessageLog(int offset, int limit) throws IllegalArgumentException {
+        if (offset < 0) throw new IllegalArgumentException("offset cannot be negative");
+        if (limit < 0) throw new IllegalArgumentException("limit cannot be negative");
+
+        ChatHistory chat = this.chat;
+        if (chat != null && offset <= chat.size() && limit <= chat.size() - offset) return ImmutableList.copyOf(chat.get(offset, limit));
+
+        return ImmutableList.copyOf(getLog("chat", offset, limit));
     }
 
     /**
@@ -538,10 +708,20 @@ public final class Division {
     public void broadcastMessage(@NotNull String message) throws IllegalArgumentException {
         if (message == null) throw new IllegalArgumentException("Message cannot be null");
 
-        for (Player player : getOnlineMembers()) player.sendMessage(CHAT_PREFIX + message);
+        for (Player player : getOnlineMembers()) player.sendMessage(getChatPrefix(player) + message);
+
+        long timestamp = System.currentTimeMillis();
+        ChatHistory chat = this.chat;
+        if (chat == null) {
+            int size = DivConfig.getConfiguration().getChatHistorySize();
+            if (size > 0) {
+                CHAT.compareAndSet(this, null, new ChatHistory(size));
+                chat = this.chat;
+            }
+        }
 
-        String logPrefix = new SimpleDateFormat("[HH:mm:ss] ").format(new Date());
-        writeLog("chat", logPrefix + message);
+        if (chat != null) chat.add(timestamp, message);
+        DivisionLogWriter.log(folder, "chat", message, timestamp);
     }
 
     /**
@@ -552,18 +732,79 @@ public final class Division {
     @NotNull
     @Unmodifiable
     public Map<DivisionAchievement, Integer> getAchievements() {
+        loadBody();
         return ImmutableMap.copyOf(achievements);
     }
 
     /**
-     * Fetches an immutable list of the Audit Log Entries for this Division.
+     * Fetches an immutable list of the Audit Log Entries for this Division. Entries that have been saved are read from
+     * the {@link DivisionStorage}.
      * @return Audit Log
      * @since 1.0.0
+     * @throws IllegalStateException if the audit log could not be read
+     */
+    @NotNull
+    @Unmodifiable
+    public List<AuditLogEntry> getAuditLog() throws IllegalStateException {
+        // Wait for pending writes, so that no entry is both in storage and in memory
+        DivisionSaver.sync();
+
+        List<AuditLogEntry> entries;
+        try (Stream<AuditLogEntry> stored = DivConfig.getConfiguration().getStorage().streamAuditLog(id)) {
+            entries = stored.collect(Collectors.toCollection(ArrayList::new));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+
+        synchronized (dirty) {
+            entries.addAll(auditLog);
+        }
+
+        return ImmutableList.copyOf(entries);
+    }
+
+    /**
+     * Fetches an immutable list of the Audit Log Entries for this Division between two dates, oldest first.
+     * @param from Earliest Date, inclusive
+     * @param to Latest Date, inclusive
+     * @param limit Maximum amount of entries to return
+     * @return Audit Log Entries between the two dates
+     * @since 1.0.0
+     * @throws IllegalArgumentException if from or to is null, or limit is negative
+     * @throws IllegalStateException if the audit log could not be read
      */
     @NotNull
     @Unmodifiable
-    public List<AuditLogEntry> getAuditLog() {
-        return ImmutableList.copyOf(auditLog);
+    public List<AuditLogEntry> getAuditLog(@NotNull Date from, @NotNull Date to, int limit) throws IllegalArgumentException, IllegalStateException {
+        if (from == null) throw new IllegalArgumentException("from cannot be null");
+        if (to == null) throw new IllegalArgumentException("to cannot be null");
+        if (limit < 0) throw new IllegalArgumentException("limit cannot be negative");
+
+        // Wait for pending writes, so that no entry is both in storage and in memory
+        DivisionSaver.sync();
+
+        List<AuditLogEntry> entries;
+        try {
+            entries = new ArrayList<>(DivConfig.getConfiguration().getStorage().getAuditLog(id, from, to, limit));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+
+        // Unwritten entries are newer than every stored entry
+        synchronized (dirty) {
+            for (AuditLogEntry entry : auditLog) {
+                if (entries.size() >= limit || entry.getTimestamp().after(to)) break;
+                if (!entry.getTimestamp().before(from)) entries.add(entry);
+            }
+        }
+
+        return ImmutableList.copyOf(entries);
+    }
+
+    private void addAuditLog(@NotNull AuditLogEntry entry) {
+        synchronized (dirty) {
+            auditLog.add(entry);
+        }
     }
 
     /**
@@ -639,16 +880,18 @@ public final class Division {
         if (player == null) throw new IllegalArgumentException("Player cannot be null");
         if (isMember(player)) kickMember(player, initiator);
 
+        loadBody();
         banList.add(player.getUniqueId());
 
         DivisionBanEvent event = new DivisionBanEvent(this, player, initiator);
         Bukkit.getPluginManager().callEvent(event);
 
         AuditLogEntry entry = new AuditLogEntry(new Date(), AuditLogEntry.Action.PLAYER_BANNED, player.getName(), event.getInitiator());
-        auditLog.add(entry);
+        addAuditLog(entry);
         writeLog(entry);
 
-        if (save) save();
+        if (save) save(Section.BANS, Section.AUDIT_LOG);
+        else markDirty(Section.BANS, Section.AUDIT_LOG);
     }
 
     /**
@@ -672,7 +915,7 @@ public final class Division {
         if (players == null) throw new IllegalArgumentException("Players cannot be null");
 
         for (OfflinePlayer player : players) ban(player, initiator, false);
-        save();
+        save(Section.BANS, Section.AUDIT_LOG);
     }
 
     /**
@@ -723,16 +966,18 @@ public final class Division {
         if (player == null) throw new IllegalArgumentException("Player cannot be null");
         if (!isBanned(player)) throw new IllegalArgumentException("Player is not banned");
 
+        loadBody();
         banList.remove(player.getUniqueId());
 
         DivisionUnbanEvent event = new DivisionUnbanEvent(this, player, initiator);
         Bukkit.getPluginManager().callEvent(event);
 
         AuditLogEntry entry = new AuditLogEntry(new Date(), AuditLogEntry.Action.PLAYER_UNBANNED, player.getName(), event.getInitiator());
-        auditLog.add(entry);
+        addAuditLog(entry);
         writeLog(entry);
 
-        if (save) save();
+        if (save) save(Section.BANS, Section.AUDIT_LOG);
+        else markDirty(Section.BANS, Section.AUDIT_LOG);
     }
 
     /**
@@ -758,7 +1003,7 @@ public final class Division {
         if (players == null) throw new IllegalArgumentException("Players cannot be null");
 
         for (OfflinePlayer player : players) if (isBanned(player)) unban(player, initiator, false);
-        save();
+        save(Section.BANS, Section.AUDIT_LOG);
     }
 
     /**
@@ -772,9 +1017,11 @@ public final class Division {
      */
     public <T> T getSetting(@NotNull DivSetting<T> setting) throws IllegalStateException, IllegalArgumentException {
         if (setting == null) throw new IllegalArgumentException("Setting cannot be null");
-        if (getLevel() < setting.getUnlockedLevel()) throw new IllegalStateException("Setting is not unlocked");
+        if (!setting.isUnlocked(getLevel())) throw new IllegalStateException("Setting is not unlocked");
 
-        return (T) settings.getOrDefault(setting, setting.getDefaultValue());
+        loadBody();
+        Object value = getSettingValue(setting);
+        return value == null ? setting.getDefaultValue() : (T) value;
     }
 
     /**
@@ -789,10 +1036,34 @@ public final class Division {
     public <T> void setSetting(@NotNull DivSetting<T> setting, @NotNull T value) throws IllegalStateException, IllegalArgumentException {
         if (setting == null) throw new IllegalArgumentException("Setting cannot be null");
         if (value == null) throw new IllegalArgumentException("Value cannot be null");
-        if (getLevel() < setting.getUnlockedLevel()) throw new IllegalStateException("Setting is not unlocked");
+        if (!setting.isUnlocked(getLevel())) throw new IllegalStateException("Setting is not unlocked");
+
+        loadBody();
+        setSettingValue(setting, value);
+        save(Section.SETTINGS);
+    }
+
+    @Nullable
+    Object getSettingValue(@NotNull DivSetting<?> setting) {
+        Object[] settings = this.settings;
+        int i = setting.ordinal();
+        return i < settings.length ? settings[i] : null;
+    }
+
+    void setSettingValue(@NotNull DivSetting<?> setting, @Nullable Object value) {
+        // Settings registered after this Division was created
+        if (setting.ordinal() >= settings.length) settings = Arrays.copyOf(settings, DivSetting.count());
+        settings[setting.ordinal()] = value;
+    }
+
+    void resolveSetting(@NotNull DivSetting<?> setting) {
+        // Unloaded bodies are resolved when they are read again
+        if (!bodyLoaded) return;
 
-        settings.put(setting, value);
-        save();
+        synchronized (dirty) {
+            if (!unknownSettings.containsKey(setting.getKey())) return;
+            setSettingValue(setting, DivisionCodec.toSettingValue(setting, unknownSettings.remove(setting.getKey())));
+        }
     }
 
     // Overrides
@@ -823,40 +1094,39 @@ public final class Division {
 
     // Static Methods
 
-    private static final List<Division> DIVISION_CACHE = new ArrayList<>();
-
     /**
      * Fetches an immutable list of all divisions.
      * @return Immutable List of Divisions
-     * @throws IllegalStateException if one or more divisions is invalid
+     * @throws IllegalStateException if the divisions could not be loaded
      * @since 1.0.0
      */
     @Unmodifiable
     @NotNull
     public static List<Division> getDivisions() throws IllegalStateException {
-        if (!DIVISION_CACHE.isEmpty()) return DIVISION_CACHE;
-        List<Division> divisions = new ArrayList<>();
+        load();
+        return DivisionRegistry.getDivisions();
+    }
 
-        for (File f : DivConfig.getDivisionsDirectory().listFiles()) {
-            if (!f.isDirectory()) continue;
+    private static List<Division> loadStored() throws IOException {
+        DivConfig config = DivConfig.getConfiguration();
+        DivisionCache.setEnabled(config.isLazyLoading());
 
-            Division d;
+        if (config.isLazyLoading()) return config.getStorage().loadHeaders();
+        return config.getStorage().loadAll();
+    }
+
+    static void load() throws IllegalStateException {
+        if (DivisionRegistry.isLoaded()) return;
+
+        synchronized (DivisionRegistry.class) {
+            if (DivisionRegistry.isLoaded()) return;
 
             try {
-                d = read(f.getAbsoluteFile());
-            } catch (OptionalDataException e) {
-                DivConfig.print(e);
-                continue;
-            } catch (IOException | ReflectiveOperationException e) {
+                DivisionRegistry.load(loadStored());
+            } catch (IOException e) {
                 throw new IllegalStateException(e);
             }
-
-            divisions.add(d);
         }
-
-        DIVISION_CACHE.addAll(divisions);
-
-        return ImmutableList.copyOf(divisions);
     }
 
     /**
@@ -869,11 +1139,8 @@ public final class Division {
     @Nullable
     public static Division byName(@NotNull String name) throws IllegalArgumentException {
         if (name == null) throw new IllegalArgumentException("name cannot be null");
-        return getDivisions()
-                .stream()
-                .filter(d -> d.getName().equalsIgnoreCase(name))
-                .findFirst()
-                .orElse(null);
+        load();
+        return DivisionRegistry.byName(name);
     }
 
     /**
@@ -886,11 +1153,8 @@ public final class Division {
     @Nullable
     public static Division byId(@NotNull UUID id) throws IllegalArgumentException {
         if (id == null) throw new IllegalArgumentException("id cannot be null");
-        return getDivisions()
-                .stream()
-                .filter(d -> d.getUniqueId().equals(id))
-                .findFirst()
-                .orElse(null);
+        load();
+        return DivisionRegistry.byId(id);
     }
 
     /**
@@ -903,11 +1167,8 @@ public final class Division {
     @Nullable
     public static Division byOwner(@NotNull OfflinePlayer owner) throws IllegalArgumentException {
         if (owner == null) throw new IllegalArgumentException("owner cannot be null");
-        return getDivisions()
-                .stream()
-                .filter(d -> d.getOwner().equals(owner))
-                .findFirst()
-                .orElse(null);
+        load();
+        return DivisionRegistry.byOwner(owner.getUniqueId());
     }
 
     /**
@@ -920,11 +1181,8 @@ public final class Division {
     @Nullable
     public static Division byMember(@NotNull OfflinePlayer member) throws IllegalArgumentException {
         if (member == null) throw new IllegalArgumentException("member cannot be null");
-        return getDivisions()
-                .stream()
-                .filter(d -> d.getMembers().contains(member))
-                .findFirst()
-                .orElse(null);
+        load();
+        return DivisionRegistry.byMember(member.getUniqueId());
     }
 
     /**
@@ -935,9 +1193,7 @@ public final class Division {
      */
     public static boolean exists(@Nullable String name) {
         if (name == null) return false;
-        return getDivisions()
-                .stream()
-                .anyMatch(d -> d.getName().equalsIgnoreCase(name));
+        return byName(name) != null;
     }
 
     /**
@@ -948,9 +1204,7 @@ public final class Division {
      */
     public static boolean exists(@Nullable UUID id) {
         if (id == null) return false;
-        return getDivisions()
-                .stream()
-                .anyMatch(d -> d.getUniqueId().equals(id));
+        return byId(id) != null;
     }
 
     /**
@@ -961,9 +1215,7 @@ public final class Division {
      */
     public static boolean exists(@Nullable OfflinePlayer owner) {
         if (owner == null) return false;
-        return getDivisions()
-                .stream()
-                .anyMatch(d -> d.getOwner().equals(owner));
+        return byOwner(owner) != null;
     }
 
     /**
@@ -975,11 +1227,121 @@ public final class Division {
     public static void removeDivision(@NotNull Division d) throws IllegalArgumentException {
         if (d == null) throw new IllegalArgumentException("Division cannot be null");
 
-        File folder = d.getFolder();
-        for (File f : folder.listFiles()) f.delete();
-        folder.delete();
+        DivisionLogWriter.sync(d.getFolder(), true);
+        ExperienceAccumulator.discard(d);
+
+        DivisionStorage storage = DivConfig.getConfiguration().getStorage();
+        DivisionSaver.run(d, () -> {
+            try {
+                storage.delete(d.getUniqueId());
+            } catch (IOException e) {
+                DivConfig.print(e);
+            }
+
+            delete(d.getFolder());
+        });
+        DivisionRegistry.unregister(d);
+    }
+
+    /**
+     * <p>Reloads all Divisions from storage, comparing them against the Divisions currently loaded.</p>
+     * <p>All modified Divisions are saved before reloading. Divisions that are unchanged in storage keep their current
+     * instance. Must be called on the main thread.</p>
+     * @return Result of the Reload
+     * @throws IllegalStateException if the divisions could not be loaded
+     * @since 1.0.0
+     */
+    @NotNull
+    public static ReloadResult reload() throws IllegalStateException {
+        load();
+        DivisionSaver.flushNow();
+
+        List<Division> stored;
+        try {
+            stored = loadStored();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+
+        int added = 0, updated = 0, removed = 0;
+        Set<UUID> ids = new HashSet<>();
+
+        for (Division d : stored) {
+            ids.add(d.id);
+            Division old = DivisionRegistry.byId(d.id);
+
+            if (old == null) added++;
+            else if (old.isStale(d)) updated++;
+            else continue;
+
+            DivisionRegistry.register(d);
+        }
+
+        for (Division d : DivisionRegistry.getDivisions()) {
+            if (ids.contains(d.id)) continue;
+
+            DivisionRegistry.unregister(d);
+            removed++;
+        }
+
+        return new ReloadResult(added, updated, removed);
+    }
+
+    private boolean isStale(@NotNull Division stored) {
+        for (Section section : Section.values()) {
+            byte[] current = encoded[section.ordinal()];
+            byte[] other = stored.encoded[section.ordinal()];
+            if (current == null || other == null) continue;
+
+            if (!Arrays.equals(current, other)) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Represents the result of {@link #reload()}.
+     * @since 1.0.0
+     */
+    public static final class ReloadResult {
+
+        private final int added;
+        private final int updated;
+        private final int removed;
+
+        ReloadResult(int added, int updated, int removed) {
+            this.added = added;
+            this.updated = updated;
+            this.removed = removed;
+        }
+
+        /**
+         * Fetches the amount of Divisions found in storage that were not loaded.
+         * @return Added Divisions
+         * @since 1.0.0
+         */
+        public int getAdded() {
+            return added;
+        }
+
+        /**
+         * Fetches the amount of loaded Divisions that were replaced by a different version in storage.
+         * @return Updated Divisions
+         * @since 1.0.0
+         */
+        public int getUpdated() {
+            return updated;
+        }
+
+        /**
+         * Fetches the amount of loaded Divisions that were no longer in storage.
+         * @return Removed Divisions
+         * @since 1.0.0
+         */
+        public int getRemoved() {
+            return removed;
+        }
 
-        DIVISION_CACHE.clear();
     }
 
     /**
@@ -991,9 +1353,7 @@ public final class Division {
      */
     public static boolean isInDivision(@NotNull OfflinePlayer p) throws IllegalArgumentException {
         if (p == null) throw new IllegalArgumentException("Player cannot be null");
-        return getDivisions()
-                .stream()
-                .anyMatch(d -> d.getMembers().contains(p));
+        return byMember(p) != null;
     }
 
     /**
@@ -1003,11 +1363,17 @@ public final class Division {
      * @since 1.0.0
      */
     public static int toLevel(double experience) {
-        if (experience < 0) return 0;
+        if (!(experience > 0)) return 0;
+
+        // Lowest level with at least this much experience; the last level in the table is infinite
+        int low = 0, high = EXPERIENCE_TABLE.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (EXPERIENCE_TABLE[mid] < experience) low = mid + 1;
+            else high = mid;
+        }
 
-        int level = 0;
-        while (toExperience(level) < experience) level++;
-        return level;
+        return low;
     }
 
     /**
@@ -1018,9 +1384,40 @@ public final class Division {
      */
     public static double toExperience(int level) {
         if (level < 0) return 0;
+        if (level < EXPERIENCE_TABLE.length) return EXPERIENCE_TABLE[level];
+        return calculateExperience(level);
+    }
+
+    private static final class CachedLevel {
+
+        final double experience;
+        final int level;
+
+        CachedLevel(double experience, int level) {
+            this.experience = experience;
+            this.level = level;
+        }
+
+    }
+
+    // Minimum experience of every level, up to and including the first level that needs infinite experience
+    private static final double[] EXPERIENCE_TABLE = createExperienceTable();
+
+    private static double calculateExperience(int level) {
         return Math.floor(Math.pow(level, 2.2 + (level / 3D)) + 1000 * level);
     }
 
+    private static double[] createExperienceTable() {
+        List<Double> table = new ArrayList<>();
+        double experience;
+        do {
+            experience = calculateExperience(table.size());
+            table.add(experience);
+        } while (!Double.isInfinite(experience));
+
+        return table.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
     // Builder
 
     /**
@@ -1136,10 +1533,10 @@ public final class Division {
             d.socialMedia.putAll(socialMedia);
 
             AuditLogEntry entry = new AuditLogEntry(now, AuditLogEntry.Action.CREATED, d, owner);
-            d.auditLog.add(entry);
+            d.addAuditLog(entry);
 
-            DIVISION_CACHE.clear();
             d.save();
+            DivisionRegistry.register(d);
             d.writeLog(entry);
 
             DivisionCreateEvent event = new DivisionCreateEvent(d);
@@ -1150,240 +1547,273 @@ public final class Division {
 
     }
 
-    // Writing & Reading
-
-    private void writeLog(@NotNull AuditLogEntry entry) {
-        writeLog("audit", entry.toString());
-    }
-
-    private void writeLog(String type, String message) {
-        try {
-            String today = new SimpleDateFormat("yyyy-MM-dd").format(new Date()) + ".log";
-
-            File todayF = new File(new File(folder, "logs/" + message), today);
-            if (!todayF.exists()) {
-                todayF.getParentFile().mkdirs();
-                todayF.createNewFile();
-            }
-
-            String logPrefix = new SimpleDateFormat("[HH:mm:ss] ").format(new Date());
-            try (BufferedWriter writer = new BufferedWriter(new FileWriter(todayF, true))) {
-                writer.write(logPrefix + message);
-                writer.newLine();
-
-                writer.flush();
-            }
-        } catch (IOException e) {
-            DivConfig.print(e);
-        }
-    }
-
-    @NotNull
-    private List<String> getLog(String type) {
-        List<String> list = new ArrayList<>();
-        try {
-            String today = new SimpleDateFormat("yyyy-MM-dd").format(new Date()) + ".log";
-            File todayF = new File(new File(folder, "logs/" + type), today);
-            if (!todayF.exists()) return list;
-
-            try (BufferedReader reader = new BufferedReader(new FileReader(todayF))) {
-                String line;
-                while ((line = reader.readLine()) != null) list.add(line);
-            }
-        } catch (IOException e) {
-            DivConfig.print(e);
-        }
-
-        return list;
-    }
+    // Sections
 
     /**
-     * <p>Saves this Division to the file system.</p>
-     * <p>This method is called automatically and does not need to be repeated.</p>
+     * Represents a section of a Division's data that is encoded independently.
      * @since 1.0.0
      */
-    public void save() {
-        if (!folder.exists()) folder.mkdir();
-
-        try {
-            write();
-        } catch (IOException e) {
-            DivConfig.print(e);
-        }
-    }
+    public enum Section {
 
-    private void write() throws IOException {
-        // Permanent Information
-
-        File info = new File(folder, "info.dat");
-        if (!info.exists()) info.createNewFile();
+        /**
+         * Represents the Division's permanent information, such as its ID, creation date and owner.
+         * @since 1.0.0
+         */
+        INFO(0),
 
-        ObjectOutputStream infoOs = new ObjectOutputStream(Files.newOutputStream(info.toPath()));
-        infoOs.writeObject(this.id);
-        infoOs.writeLong(this.creationDate);
-        infoOs.writeObject(this.owner.getUniqueId());
-        infoOs.close();
+        /**
+         * Represents the Division's members.
+         * @since 1.0.0
+         */
+        MEMBERS(1),
 
-        // Members
+        /**
+         * Represents the Division's ban list.
+         * @since 1.0.0
+         */
+        BANS(2),
 
-        File members = new File(folder, "members.dat");
-        if (!members.exists()) members.createNewFile();
+        /**
+         * Represents the Division's achievement levels.
+         * @since 1.0.0
+         */
+        ACHIEVEMENTS(3),
 
-        ObjectOutputStream membersOs = new ObjectOutputStream(Files.newOutputStream(members.toPath()));
-        membersOs.writeObject(
-                this.members
-                .stream()
-                .map(OfflinePlayer::getUniqueId)
-                .collect(Collectors.toList())
-        );
-        membersOs.close();
+        /**
+         * Represents the Division's audit log.
+         * @since 1.0.0
+         */
+        AUDIT_LOG(4),
 
-        // Ban List
+        /**
+         * Represents the Division's settings.
+         * @since 1.0.0
+         */
+        SETTINGS(5),
 
-        File bans = new File(folder, "bans.dat");
-        if (!bans.exists()) bans.createNewFile();
+        /**
+         * Represents other Division information, such as its name, home, experience, prefix and tagline.
+         * @since 1.0.0
+         */
+        OTHER(6),
 
-        ObjectOutputStream bansOs = new ObjectOutputStream(Files.newOutputStream(bans.toPath()));
-        bansOs.writeObject(this.banList);
-        bansOs.close();
+        /**
+         * Represents the Division's social media links.
+         * @since 1.0.0
+         */
+        SOCIALS(7),
 
-        // Achievements
-        File achievements = new File(folder, "achievements.dat");
-        if (!achievements.exists()) achievements.createNewFile();
+        ;
 
-        ObjectOutputStream achievementsOs = new ObjectOutputStream(Files.newOutputStream(achievements.toPath()));
-        achievementsOs.writeObject(this.achievements);
-        achievementsOs.close();
+        final int id;
 
-        // Audit Log
-        File auditLog = new File(new File(folder, "logs/audit"), "audit.dat");
-        if (!auditLog.exists()) {
-            auditLog.getParentFile().mkdirs();
-            auditLog.createNewFile();
+        Section(int id) {
+            this.id = id;
         }
 
-        ObjectOutputStream auditLogOs = new ObjectOutputStream(Files.newOutputStream(auditLog.toPath()));
-        auditLogOs.writeObject(this.auditLog);
-        auditLogOs.close();
-
-        // Settings
-        File settings = new File(folder, "settings.yml");
-        if (!settings.exists()) settings.createNewFile();
+        // Sections loaded on first access when lazy loading is enabled
+        static final Set<Section> BODY = Collections.unmodifiableSet(EnumSet.of(ACHIEVEMENTS, AUDIT_LOG, SETTINGS, SOCIALS));
 
-        YamlConfiguration settingsYml = new YamlConfiguration();
-        for (Map.Entry<DivSetting<?>, Object> entry : this.settings.entrySet())
-            settingsYml.set(entry.getKey().getKey(), entry.getValue());
-
-        settingsYml.save(settings);
+        @Nullable
+        static Section byId(int id) {
+            for (Section section : values()) if (section.id == id) return section;
+            return null;
+        }
 
-        // Other Information
+    }
 
-        File other = new File(folder, "other.yml");
-        if (!other.exists()) other.createNewFile();
+    // Writing & Reading
 
-        FileConfiguration oConfig = YamlConfiguration.loadConfiguration(other);
-        oConfig.set("name", this.name);
-        oConfig.set("home", this.home);
-        oConfig.set("experience", this.experience);
-        oConfig.set("prefix", this.prefix);
-        oConfig.set("tagline", this.tagline);
-        oConfig.save(other);
+    private static void delete(@NotNull File file) {
+        File[] children = file.listFiles();
+        if (children != null) for (File f : children) delete(f);
+        file.delete();
+    }
 
-        File socials = new File(folder, "socials.dat");
-        if (!socials.exists()) socials.createNewFile();
+    private void writeLog(@NotNull AuditLogEntry entry) {
+        writeLog("audit", entry.toString());
+    }
 
-        ObjectOutputStream socialsOs = new ObjectOutputStream(Files.newOutputStream(socials.toPath()));
-        socialsOs.writeObject(this.socialMedia);
-        socialsOs.close();
+    private void writeLog(String type, String message) {
+        DivisionLogWriter.log(folder, type, message);
     }
 
-    @SuppressWarnings("unchecked")
     @NotNull
-    private static Division read(File folder) throws IOException, IllegalStateException, ReflectiveOperationException {
-        // ID Information
+    private List<String> getLog(String type, int offset, int limit) {
+        DivisionLogWriter.sync(folder, false);
+
+        try {
+            String today = new SimpleDateFormat("yyyy-MM-dd").format(new Date()) + ".log";
+            return DivisionLogWriter.tail(new File(new File(folder, "logs/" + type), today), offset, limit);
+        } catch (IOException e) {
+            DivConfig.print(e);
+            return new ArrayList<>();
+        }
+    }
 
-        File info = new File(folder, "info.dat");
-        if (!info.exists()) throw new IllegalStateException("Could not find: info.dat");
+    /**
+     * <p>Saves this Division to the file system.</p>
+     * <p>This method is called automatically and does not need to be repeated. Saves are batched and written asynchronously by the {@link DivisionSaver}.</p>
+     * @since 1.0.0
+     */
+    public void save() {
+        save(Section.values());
+    }
 
-        ObjectInputStream infoIs = new ObjectInputStream(Files.newInputStream(info.toPath()));
-        UUID id = (UUID) infoIs.readObject();
-        long creationDate = infoIs.readLong();
-        OfflinePlayer owner = Bukkit.getOfflinePlayer((UUID) infoIs.readObject());
-        infoIs.close();
+    private void save(@NotNull Section... sections) {
+        markDirty(sections);
+        DivisionSaver.schedule(this);
+    }
 
-        Division d = new Division(folder, id, creationDate, owner);
+    private void markDirty(@NotNull Section... sections) {
+        synchronized (dirty) {
+            dirty.addAll(Arrays.asList(sections));
+        }
+    }
 
-        // Members
+    /**
+     * Whether this Division has changes that have not been written to the file system.
+     * @return true if there are unsaved changes, false otherwise
+     * @since 1.0.0
+     */
+    public boolean isDirty() {
+        synchronized (dirty) {
+            return !dirty.isEmpty();
+        }
+    }
 
-        File members = new File(folder, "members.dat");
-        if (!members.exists()) throw new IllegalStateException("Could not find: members.dat");
+    /**
+     * Encodes the dirty sections of this Division and clears them, returning a task that saves this Division to the {@link DivisionStorage}.
+     * Must be called on the thread that modifies this Division.
+     * @return Write Task, or null if nothing has changed
+     */
+    @Nullable
+    Runnable snapshot() {
+        // Every section is written together, so the body must be present
+        if (!bodyLoaded && isDirty()) loadBody();
 
-        ObjectInputStream membersIs = new ObjectInputStream(Files.newInputStream(members.toPath()));
-        List<UUID> memberIds = (List<UUID>) membersIs.readObject();
-        membersIs.close();
+        Map<Section, byte[]> sections = new EnumMap<>(Section.class);
+        Set<Section> changed = EnumSet.noneOf(Section.class);
+        int audit, generation;
 
-        d.members.addAll(memberIds
-                .stream()
-                .map(Bukkit::getOfflinePlayer)
-                .collect(Collectors.toList()));
+        synchronized (dirty) {
+            if (dirty.isEmpty()) return null;
 
-        // Ban List
+            for (Section section : Section.values()) {
+                if (section == Section.AUDIT_LOG) continue;
 
-        File bans = new File(folder, "bans.dat");
-        if (!bans.exists()) throw new IllegalStateException("Could not find: bans.dat");
+                if (dirty.contains(section) || encoded[section.ordinal()] == null) {
+                    encoded[section.ordinal()] = DivisionCodec.encode(this, section);
+                    changed.add(section);
+                }
 
-        ObjectInputStream bansIs = new ObjectInputStream(Files.newInputStream(bans.toPath()));
-        List<UUID> banIds = (List<UUID>) bansIs.readObject();
-        bansIs.close();
+                sections.put(section, encoded[section.ordinal()]);
+            }
 
-        d.banList.addAll(banIds);
+            audit = auditLog.size() - queuedAuditLog;
+            generation = auditGeneration;
+            if (audit > 0) {
+                sections.put(Section.AUDIT_LOG, DivisionCodec.encodeAuditLog(auditLog.subList(queuedAuditLog, auditLog.size())));
+                changed.add(Section.AUDIT_LOG);
+                queuedAuditLog = auditLog.size();
+            }
 
-        // Achievements
+            dirty.clear();
+            writes++;
+        }
 
-        File achievements = new File(folder, "achievements.dat");
-        if (!achievements.exists()) throw new IllegalStateException("Could not find: achievements.dat");
+        DivisionStorage storage = DivConfig.getConfiguration().getStorage();
+        return () -> {
+            boolean appended = changed.contains(Section.AUDIT_LOG);
+            if (appended) synchronized (dirty) {
+                // An earlier write failed, so these entries are written again after its entries
+                if (generation != auditGeneration) {
+                    sections.remove(Section.AUDIT_LOG);
+                    changed.remove(Section.AUDIT_LOG);
+                    appended = false;
+                }
+            }
 
-        ObjectInputStream achievementsIs = new ObjectInputStream(Files.newInputStream(achievements.toPath()));
-        Map<DivisionAchievement, Integer> achievementsMap = (Map<DivisionAchievement, Integer>) achievementsIs.readObject();
-        achievementsIs.close();
+            try {
+                storage.save(id, sections, changed);
+
+                // Only entries that are in storage are removed from memory
+                if (appended) synchronized (dirty) {
+                    auditLog.subList(0, audit).clear();
+                    queuedAuditLog -= audit;
+                }
+            } catch (IOException e) {
+                DivConfig.print(e);
 
-        d.achievements.putAll(achievementsMap);
+                // Written again on the next flush
+                synchronized (dirty) {
+                    dirty.addAll(changed);
+                    if (appended) {
+                        queuedAuditLog = 0;
+                        auditGeneration++;
+                    }
+                }
+
+                if (DivisionSaver.isRunning()) DivisionSaver.schedule(this);
+            } finally {
+                synchronized (dirty) {
+                    writes--;
+                }
+            }
+        };
+    }
 
-        // Other Information
+    void loadBody() throws IllegalStateException {
+        lastAccess = System.currentTimeMillis();
 
-        File other = new File(folder, "other.yml");
-        if (!other.exists()) throw new IllegalStateException("Could not find: other.yml");
+        if (!bodyLoaded) {
+            // Pending writes need the lock to finish, so wait for them and read storage before taking it
+            DivisionSaver.sync();
 
-        FileConfiguration oConfig = YamlConfiguration.loadConfiguration(other);
-        d.name = oConfig.getString("name");
-        d.home = (Location) oConfig.get("home");
-        d.experience = oConfig.getDouble("experience", 0);
-        d.prefix = oConfig.getString("prefix");
-        d.tagline = oConfig.getString("tagline", "");
+            Division stored;
+            try {
+                stored = DivConfig.getConfiguration().getStorage().load(id);
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to load Division " + id, e);
+            }
 
-        // Social Media
+            synchronized (dirty) {
+                // Loaded by another thread while reading
+                if (!bodyLoaded) {
+                    if (stored != null) {
+                        settings = stored.settings;
+                        unknownSettings.putAll(stored.unknownSettings);
+                        achievements.putAll(stored.achievements);
+                        socialMedia.putAll(stored.socialMedia);
 
-        File socials = new File(folder, "socials.dat");
-        if (!socials.exists()) throw new IllegalStateException("Could not find: socials.dat");
+                        for (Section section : Section.BODY) encoded[section.ordinal()] = stored.encoded[section.ordinal()];
+                    }
 
-        ObjectInputStream socialsIs = new ObjectInputStream(Files.newInputStream(socials.toPath()));
-        Map<SocialMedia, String> socialsMap = (Map<SocialMedia, String>) socialsIs.readObject();
-        socialsIs.close();
+                    bodyLoaded = true;
+                }
+            }
+        }
 
-        d.socialMedia.putAll(socialsMap);
+        DivisionCache.touch(this);
+    }
 
-        // Settings
+    boolean unloadBody() {
+        synchronized (dirty) {
+            if (!bodyLoaded) return true;
+            if (!dirty.isEmpty() || writes > 0) return false;
 
-        File settings = new File(folder, "settings.yml");
-        if (!settings.exists()) throw new IllegalStateException("Could not find: settings.yml");
+            Arrays.fill(settings, null);
+            unknownSettings.clear();
+            // Only known if the achievements were read, instead of only the header
+            if (encoded[Section.ACHIEVEMENTS.ordinal()] != null)
+                for (Map.Entry<DivisionAchievement, Integer> entry : achievements.entrySet()) achievementLevels[entry.getKey().ordinal()] = entry.getValue();
+            achievements.clear();
+            socialMedia.clear();
 
-        YamlConfiguration settingsYml = YamlConfiguration.loadConfiguration(settings);
-        for (DivSetting<?> setting : DivSetting.values()) {
-            if (toLevel(d.experience) < setting.getUnlockedLevel()) continue;
-            d.settings.put(setting, settingsYml.get(setting.getKey()));
+            for (Section section : Section.BODY) encoded[section.ordinal()] = null;
+            bodyLoaded = false;
+            return true;
         }
-
-        return d;
     }
 
 }
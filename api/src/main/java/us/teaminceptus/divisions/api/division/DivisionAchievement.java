@@ -4,6 +4,8 @@ import org.bukkit.NamespacedKey;
 import org.jetbrains.annotations.NotNull;
 import us.teaminceptus.divisions.api.DivConfig;
 
+import java.util.Arrays;
+
 /**
  * Represents Achievements a Division can earn.
  * @since 1.0.0
@@ -14,23 +16,29 @@ public enum DivisionAchievement {
      * Represents the Achievement for having 10, 25, 100, and 1,000 Members.
      * @since 1.0.0
      */
-    POPULATION_GROWTH("population_growth", 4, 1000),
+    POPULATION_GROWTH("population_growth", 1000, AchievementCounter.MEMBERS, 10, 25, 100, 1000),
 
     /**
      * Represents the Achievement for having 100K, 1M, 10M, 500M, 3B, and 500B Experience.
      * @since 1.0.0
      */
-    EXPERIENCE_COLLECTOR("experience_collector", 6, 0),
+    EXPERIENCE_COLLECTOR("experience_collector", 0, AchievementCounter.EXPERIENCE, 100_000, 1_000_000, 10_000_000, 500_000_000, 3_000_000_000D, 500_000_000_000D),
     ;
 
     private final String key;
     private final int maxLevel;
     private final double experienceIncrease;
+    private final AchievementCounter counter;
+    private final double[] thresholds;
 
-    DivisionAchievement(String key, int maxLevel, double experienceIncrease) {
+    DivisionAchievement(String key, double experienceIncrease, AchievementCounter counter, double... thresholds) {
         this.key = key;
-        this.maxLevel = maxLevel;
+        this.maxLevel = thresholds.length;
         this.experienceIncrease = experienceIncrease;
+        this.counter = counter;
+        this.thresholds = thresholds;
+
+        counter.achievements.add(this);
     }
 
     /**
@@ -41,6 +49,41 @@ public enum DivisionAchievement {
         return maxLevel;
     }
 
+    /**
+     * Fetches the counter this Achievement is earned from.
+     * @return AchievementCounter
+     * @since 1.0.0
+     */
+    @NotNull
+    public AchievementCounter getCounter() {
+        return counter;
+    }
+
+    /**
+     * Fetches the counter value required to reach a level of this Achievement.
+     * @param level The level of the Achievement
+     * @return Counter Value required
+     * @since 1.0.0
+     * @throws IllegalArgumentException If the level is less than 1 or greater than the maximum level
+     */
+    public double getThreshold(int level) throws IllegalArgumentException {
+        if (level < 1 || level > maxLevel) throw new IllegalArgumentException("Level must be between 1 and " + maxLevel + " inclusive.");
+        return thresholds[level - 1];
+    }
+
+    /**
+     * Fetches the level of this Achievement reached with a counter value.
+     * @param value Counter Value
+     * @return Level reached, or 0 if none
+     * @since 1.0.0
+     */
+    public int getLevel(double value) {
+        if (!(value >= thresholds[0])) return 0;
+
+        int index = Arrays.binarySearch(thresholds, value);
+        return index >= 0 ? index + 1 : -(index + 1);
+    }
+
     /**
      * Fetches the Achievement's Key.
      * @return Achievement Key
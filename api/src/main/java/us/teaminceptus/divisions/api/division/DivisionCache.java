@@ -0,0 +1,71 @@
+package us.teaminceptus.divisions.api.division;
+
+import org.jetbrains.annotations.NotNull;
+import us.teaminceptus.divisions.api.DivConfig;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Tracks Divisions with their body loaded, least recently used first.
+ */
+final class DivisionCache {
+
+    private static final Map<UUID, Division> LOADED = new LinkedHashMap<>(16, 0.75F, true);
+
+    private static volatile boolean enabled = false;
+
+    private DivisionCache() { throw new UnsupportedOperationException("This class should not be instantiated"); }
+
+    static void setEnabled(boolean enabled) {
+        DivisionCache.enabled = enabled;
+        if (!enabled) clear();
+    }
+
+    static void touch(@NotNull Division d) {
+        if (!enabled) return;
+
+        synchronized (DivisionCache.class) {
+            LOADED.put(d.id, d);
+        }
+    }
+
+    static synchronized void remove(@NotNull Division d) {
+        LOADED.remove(d.id, d);
+    }
+
+    static synchronized void clear() {
+        LOADED.clear();
+    }
+
+    static void evict() {
+        if (!enabled) return;
+
+        DivConfig config = DivConfig.getConfiguration();
+        int max = config.getMaxLoadedDivisions();
+        long idle = config.getDivisionIdleTime() * 1000L;
+        long now = System.currentTimeMillis();
+
+        List<Division> candidates = new ArrayList<>();
+        synchronized (DivisionCache.class) {
+            int excess = LOADED.size() - max;
+
+            for (Division d : LOADED.values()) {
+                if (excess <= 0 && now - d.lastAccess < idle) break;
+
+                candidates.add(d);
+                excess--;
+            }
+        }
+
+        // Unloaded outside of the lock, since loading a body touches the cache while holding the Division
+        for (Division d : candidates)
+            if (d.unloadBody()) synchronized (DivisionCache.class) {
+                if (!d.bodyLoaded) LOADED.remove(d.id, d);
+            }
+    }
+
+}
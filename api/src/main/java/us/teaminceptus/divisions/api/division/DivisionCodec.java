@@ -0,0 +1,472 @@
+package us.teaminceptus.divisions.api.division;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import us.teaminceptus.divisions.api.division.logs.AuditLogEntry;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+/**
+ * <p>Reads and writes Divisions in the single-file binary format, stored as {@code division.bin}.</p>
+ * <p>The file starts with {@link #MAGIC} and {@link #VERSION}, followed by each {@link Division.Section} as its ID,
+ * its length and its content. UUIDs are written as two longs, enums by their stable key and strings are length-prefixed.</p>
+ */
+final class DivisionCodec {
+
+    static final String FILE_NAME = "division.bin";
+
+    static final int MAGIC = 0x44495653; // "DIVS"
+    static final short VERSION = 1;
+
+    // Audit Log Data Types
+    private static final byte DATA_NULL = 0;
+    private static final byte DATA_STRING = 1;
+    private static final byte DATA_UUID = 2;
+    private static final byte DATA_LONG = 3;
+    private static final byte DATA_DOUBLE = 4;
+    private static final byte DATA_BOOLEAN = 5;
+    private static final byte DATA_DIVISION = 6;
+    private static final byte DATA_PLAYER = 7;
+
+    private DivisionCodec() { throw new UnsupportedOperationException("This class should not be instantiated"); }
+
+    // Writing
+
+    static void write(@NotNull File folder, @NotNull byte[][] sections) throws IOException {
+        if (!folder.exists()) folder.mkdirs();
+
+        File file = new File(folder, FILE_NAME);
+        File tmp = new File(folder, FILE_NAME + ".tmp");
+
+        try (DataOutputStream os = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp.toPath())))) {
+            os.writeInt(MAGIC);
+            os.writeShort(VERSION);
+
+            int count = 0;
+            for (byte[] section : sections) if (section != null) count++;
+            os.writeByte(count);
+
+            for (Division.Section section : Division.Section.values()) {
+                byte[] data = sections[section.ordinal()];
+                if (data == null) continue;
+
+                os.writeByte(section.id);
+                os.writeInt(data.length);
+                os.write(data);
+            }
+        }
+
+        Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @NotNull
+    static byte[] encode(@NotNull Division d, @NotNull Division.Section section) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream os = new DataOutputStream(bytes)) {
+            switch (section) {
+                case INFO: {
+                    writeUUID(os, d.id);
+                    os.writeLong(d.creationDate);
+                    writeUUID(os, d.owner.getUniqueId());
+                    break;
+                }
+                case MEMBERS: {
+                    os.writeInt(d.members.size());
+                    for (OfflinePlayer member : d.members) writeUUID(os, member.getUniqueId());
+                    break;
+                }
+                case BANS: {
+                    os.writeInt(d.banList.size());
+                    for (UUID uid : d.banList) writeUUID(os, uid);
+                    break;
+                }
+                case ACHIEVEMENTS: {
+                    os.writeInt(d.achievements.size());
+                    for (Map.Entry<DivisionAchievement, Integer> entry : d.achievements.entrySet()) {
+                        os.writeUTF(entry.getKey().getKey());
+                        os.writeInt(entry.getValue());
+                    }
+                    break;
+                }
+                case AUDIT_LOG: {
+                    writeAuditLog(os, d.auditLog);
+                    break;
+                }
+                case SETTINGS: {
+                    DivSetting<?>[] settings = DivSetting.values();
+
+                    int size = d.unknownSettings.size();
+                    for (DivSetting<?> setting : settings) if (d.getSettingValue(setting) != null) size++;
+                    os.writeInt(size);
+
+                    for (DivSetting<?> setting : settings) {
+                        Object value = d.getSettingValue(setting);
+                        if (value == null) continue;
+
+                        os.writeUTF(setting.getKey());
+                        writeData(os, value);
+                    }
+
+                    // Kept as read until their setting is registered
+                    for (Map.Entry<String, Object> entry : d.unknownSettings.entrySet()) {
+                        os.writeUTF(entry.getKey());
+                        writeData(os, entry.getValue());
+                    }
+                    break;
+                }
+                case OTHER: {
+                    writeString(os, d.name);
+                    os.writeDouble(d.experience);
+                    writeString(os, d.prefix);
+                    writeString(os, d.tagline);
+                    writeLocation(os, d.home, d.homeWorld);
+                    break;
+                }
+                case SOCIALS: {
+                    os.writeInt(d.socialMedia.size());
+                    for (Map.Entry<SocialMedia, String> entry : d.socialMedia.entrySet()) {
+                        os.writeUTF(entry.getKey().name());
+                        writeString(os, entry.getValue());
+                    }
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            // ByteArrayOutputStream does not throw
+            throw new IllegalStateException(e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    static void writeEntry(@NotNull DataOutput os, @NotNull AuditLogEntry entry) throws IOException {
+        os.writeLong(entry.getTimestamp().getTime());
+        os.writeUTF(entry.getAction().getKey());
+        writeData(os, entry.getData());
+
+        OfflinePlayer player = entry.getPlayer();
+        os.writeBoolean(player != null);
+        if (player != null) writeUUID(os, player.getUniqueId());
+    }
+
+    static void writeAuditLog(@NotNull DataOutput os, @NotNull List<AuditLogEntry> entries) throws IOException {
+        os.writeInt(entries.size());
+        for (AuditLogEntry entry : entries) writeEntry(os, entry);
+    }
+
+    static void writeUUID(@NotNull DataOutput os, @NotNull UUID uid) throws IOException {
+        os.writeLong(uid.getMostSignificantBits());
+        os.writeLong(uid.getLeastSignificantBits());
+    }
+
+    static void writeString(@NotNull DataOutput os, @Nullable String s) throws IOException {
+        os.writeBoolean(s != null);
+        if (s != null) os.writeUTF(s);
+    }
+
+    private static void writeLocation(@NotNull DataOutput os, @Nullable Location loc, @Nullable String unloadedWorld) throws IOException {
+        String world = loc == null ? null : loc.getWorld() != null ? loc.getWorld().getName() : unloadedWorld;
+        os.writeBoolean(world != null);
+        if (world == null) return;
+
+        os.writeUTF(world);
+        os.writeDouble(loc.getX());
+        os.writeDouble(loc.getY());
+        os.writeDouble(loc.getZ());
+        os.writeFloat(loc.getYaw());
+        os.writeFloat(loc.getPitch());
+    }
+
+    private static void writeData(@NotNull DataOutput os, @Nullable Object data) throws IOException {
+        if (data == null) os.writeByte(DATA_NULL);
+        else if (data instanceof Boolean) {
+            os.writeByte(DATA_BOOLEAN);
+            os.writeBoolean((Boolean) data);
+        } else if (data instanceof Double || data instanceof Float) {
+            os.writeByte(DATA_DOUBLE);
+            os.writeDouble(((Number) data).doubleValue());
+        } else if (data instanceof Number) {
+            os.writeByte(DATA_LONG);
+            os.writeLong(((Number) data).longValue());
+        } else if (data instanceof UUID) {
+            os.writeByte(DATA_UUID);
+            writeUUID(os, (UUID) data);
+        } else if (data instanceof Division || data instanceof DivisionReference) {
+            os.writeByte(DATA_DIVISION);
+            writeUUID(os, data instanceof Division ? ((Division) data).getUniqueId() : ((DivisionReference) data).id);
+        } else if (data instanceof OfflinePlayer) {
+            os.writeByte(DATA_PLAYER);
+            writeUUID(os, ((OfflinePlayer) data).getUniqueId());
+        } else {
+            os.writeByte(DATA_STRING);
+            os.writeUTF(data instanceof Enum<?> ? ((Enum<?>) data).name() : data.toString());
+        }
+    }
+
+    // Reading
+
+    @NotNull
+    static byte[][] read(@NotNull File file) throws IOException {
+        byte[][] sections = new byte[Division.Section.values().length][];
+
+        try (DataInputStream is = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file.toPath())))) {
+            if (is.readInt() != MAGIC) throw new IOException("Invalid Division File: " + file);
+
+            short version = is.readShort();
+            if (version > VERSION) throw new IOException("Unsupported Division File Version " + version + ": " + file);
+
+            int count = is.readUnsignedByte();
+            for (int i = 0; i < count; i++) {
+                Division.Section section = Division.Section.byId(is.readUnsignedByte());
+                byte[] data = new byte[is.readInt()];
+                is.readFully(data);
+
+                // Skip unknown sections from newer versions
+                if (section != null) sections[section.ordinal()] = data;
+            }
+        }
+
+        return sections;
+    }
+
+    @NotNull
+    static Division decode(@NotNull File folder, @NotNull byte[][] sections) throws IOException {
+        byte[] info = sections[Division.Section.INFO.ordinal()];
+        if (info == null) throw new IOException("Missing Division Information: " + folder);
+
+        Division d;
+        try (DataInputStream is = new DataInputStream(new ByteArrayInputStream(info))) {
+            d = new Division(folder, readUUID(is), is.readLong(), Bukkit.getOfflinePlayer(readUUID(is)));
+        }
+
+        for (Division.Section section : Division.Section.values()) {
+            byte[] data = sections[section.ordinal()];
+            if (data == null || section == Division.Section.INFO) continue;
+
+            try (DataInputStream is = new DataInputStream(new ByteArrayInputStream(data))) {
+                decode(d, section, is);
+            }
+        }
+
+        System.arraycopy(sections, 0, d.encoded, 0, sections.length);
+        return d;
+    }
+
+    @NotNull
+    static List<UUID> decodeUUIDs(@NotNull byte[] section) throws IOException {
+        try (DataInputStream is = new DataInputStream(new ByteArrayInputStream(section))) {
+            int size = is.readInt();
+            List<UUID> list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) list.add(readUUID(is));
+
+            return list;
+        }
+    }
+
+    @NotNull
+    static List<AuditLogEntry> decodeAuditLog(@NotNull byte[] section) throws IOException {
+        try (DataInputStream is = new DataInputStream(new ByteArrayInputStream(section))) {
+            int size = is.readInt();
+            List<AuditLogEntry> list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                AuditLogEntry entry = readEntry(is);
+                if (entry != null) list.add(entry);
+            }
+
+            return list;
+        }
+    }
+
+    @NotNull
+    static byte[] encodeAuditLog(@NotNull List<AuditLogEntry> entries) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream os = new DataOutputStream(bytes)) {
+            writeAuditLog(os, entries);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    @NotNull
+    static byte[] encodeEntry(@NotNull AuditLogEntry entry) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream os = new DataOutputStream(bytes)) {
+            writeEntry(os, entry);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    @Nullable
+    static AuditLogEntry decodeEntry(@NotNull byte[] entry) throws IOException {
+        try (DataInputStream is = new DataInputStream(new ByteArrayInputStream(entry))) {
+            return readEntry(is);
+        }
+    }
+
+    private static void decode(@NotNull Division d, @NotNull Division.Section section, @NotNull DataInput is) throws IOException {
+        switch (section) {
+            case MEMBERS: {
+                int size = is.readInt();
+                for (int i = 0; i < size; i++) d.members.add(Bukkit.getOfflinePlayer(readUUID(is)));
+                break;
+            }
+            case BANS: {
+                int size = is.readInt();
+                for (int i = 0; i < size; i++) d.banList.add(readUUID(is));
+                break;
+            }
+            case ACHIEVEMENTS: {
+                int size = is.readInt();
+                for (int i = 0; i < size; i++) {
+                    String key = is.readUTF();
+                    int level = is.readInt();
+
+                    for (DivisionAchievement a : DivisionAchievement.values())
+                        if (a.getKey().equals(key)) d.achievements.put(a, level);
+                }
+                break;
+            }
+            case AUDIT_LOG: {
+                int size = is.readInt();
+                for (int i = 0; i < size; i++) {
+                    AuditLogEntry entry = readEntry(is);
+                    if (entry != null) d.auditLog.add(entry);
+                }
+                break;
+            }
+            case SETTINGS: {
+                int size = is.readInt();
+                for (int i = 0; i < size; i++) {
+                    String key = is.readUTF();
+                    Object value = readData(is);
+
+                    DivSetting<?> setting = DivSetting.byKey(key);
+                    if (setting != null) d.setSettingValue(setting, toSettingValue(setting, value));
+                    else d.unknownSettings.put(key, value);
+                }
+                break;
+            }
+            case OTHER: {
+                d.name = readString(is);
+                d.experience = is.readDouble();
+                d.prefix = readString(is);
+
+                String tagline = readString(is);
+                d.tagline = tagline == null ? "" : tagline;
+                readHome(d, is);
+                break;
+            }
+            case SOCIALS: {
+                int size = is.readInt();
+                for (int i = 0; i < size; i++) {
+                    String key = is.readUTF();
+                    String link = readString(is);
+
+                    for (SocialMedia media : SocialMedia.values())
+                        if (media.name().equals(key)) d.socialMedia.put(media, link);
+                }
+                break;
+            }
+        }
+    }
+
+    @Nullable
+    static AuditLogEntry readEntry(@NotNull DataInput is) throws IOException {
+        long timestamp = is.readLong();
+        AuditLogEntry.Action action = AuditLogEntry.Action.fromKey(is.readUTF());
+        Object data = readData(is);
+        OfflinePlayer player = is.readBoolean() ? Bukkit.getOfflinePlayer(readUUID(is)) : null;
+
+        // Unknown action from a newer version
+        if (action == null) return null;
+        return new AuditLogEntry(new Date(timestamp), action, data, player);
+    }
+
+    @NotNull
+    static UUID readUUID(@NotNull DataInput is) throws IOException {
+        return new UUID(is.readLong(), is.readLong());
+    }
+
+    @Nullable
+    static String readString(@NotNull DataInput is) throws IOException {
+        return is.readBoolean() ? is.readUTF() : null;
+    }
+
+    private static void readHome(@NotNull Division d, @NotNull DataInput is) throws IOException {
+        if (!is.readBoolean()) return;
+
+        String world = is.readUTF();
+        World w = Bukkit.getWorld(world);
+
+        d.home = new Location(w, is.readDouble(), is.readDouble(), is.readDouble(), is.readFloat(), is.readFloat());
+        d.homeWorld = w == null ? world : null;
+    }
+
+    @Nullable
+    private static Object readData(@NotNull DataInput is) throws IOException {
+        byte type = is.readByte();
+        switch (type) {
+            case DATA_NULL: return null;
+            case DATA_STRING: return is.readUTF();
+            case DATA_UUID: return readUUID(is);
+            case DATA_DIVISION: return new DivisionReference(readUUID(is));
+            case DATA_PLAYER: return Bukkit.getOfflinePlayer(readUUID(is));
+            case DATA_LONG: return is.readLong();
+            case DATA_DOUBLE: return is.readDouble();
+            case DATA_BOOLEAN: return is.readBoolean();
+            default: throw new IOException("Unknown Data Type: " + type);
+        }
+    }
+
+    /**
+     * Replaces a Division read as audit data with the registered Division, which is not known while Divisions load.
+     */
+    @NotNull
+    static AuditLogEntry resolve(@NotNull AuditLogEntry entry) {
+        if (!(entry.getData() instanceof DivisionReference)) return entry;
+
+        UUID id = ((DivisionReference) entry.getData()).id;
+        Division d = DivisionRegistry.byId(id);
+
+        // Divisions that no longer exist are kept as their ID
+        entry.setData(d == null ? id : d);
+        return entry;
+    }
+
+    // Audit data naming a Division, written back unchanged until it is resolved
+    static final class DivisionReference {
+        final UUID id;
+
+        DivisionReference(UUID id) {
+            this.id = id;
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Nullable
+    static Object toSettingValue(@NotNull DivSetting<?> setting, @Nullable Object value) {
+        if (value == null) return null;
+        Class<?> type = setting.getType();
+
+        if (type.isEnum() && value instanceof String) return Enum.valueOf((Class<? extends Enum>) type, (String) value);
+        if (value instanceof Number) {
+            Number n = (Number) value;
+            if (type == Integer.class) return n.intValue();
+            if (type == Float.class) return n.floatValue();
+        }
+
+        return value;
+    }
+
+}
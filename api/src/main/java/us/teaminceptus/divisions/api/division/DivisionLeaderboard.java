@@ -0,0 +1,142 @@
+package us.teaminceptus.divisions.api.division;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * <p>Ranks all Divisions by experience, with the oldest Division first when tied.</p>
+ * <p>Rankings are kept up to date as Divisions are loaded, removed and gain or lose experience, so that ranks and
+ * pages can be fetched without sorting all Divisions.</p>
+ * @since 1.0.0
+ */
+public final class DivisionLeaderboard {
+
+    /**
+     * The amount of Divisions on each page of the leaderboard.
+     * @since 1.0.0
+     */
+    public static final int PAGE_SIZE = 10;
+
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparingDouble((Entry e) -> e.experience).reversed()
+            .thenComparingLong(e -> e.division.creationDate)
+            .thenComparing(e -> e.division.id);
+
+    private static final RankedTree<Entry> TREE = new RankedTree<>(ORDER);
+    private static final Map<UUID, Entry> ENTRIES = new HashMap<>();
+
+    private DivisionLeaderboard() { throw new UnsupportedOperationException("This class should not be instantiated"); }
+
+    /**
+     * Fetches the highest ranked Divisions.
+     * @param limit Maximum amount of Divisions to fetch
+     * @return Highest ranked Divisions, starting with first place
+     * @since 1.0.0
+     */
+    @NotNull
+    public static List<Division> getTop(int limit) {
+        return get(0, limit);
+    }
+
+    /**
+     * Fetches a page of the leaderboard.
+     * @param page Page number, starting at 0
+     * @return Divisions on the page, in order; empty if the page does not exist
+     * @since 1.0.0
+     */
+    @NotNull
+    public static List<Division> getPage(int page) {
+        if (page < 0) return Collections.emptyList();
+        return get(page * PAGE_SIZE, PAGE_SIZE);
+    }
+
+    /**
+     * Fetches the amount of pages in the leaderboard.
+     * @return Page Count
+     * @since 1.0.0
+     */
+    public static int getPageCount() {
+        return (getSize() + PAGE_SIZE - 1) / PAGE_SIZE;
+    }
+
+    /**
+     * Fetches the amount of ranked Divisions.
+     * @return Ranked Division Count
+     * @since 1.0.0
+     */
+    public static int getSize() {
+        Division.load();
+
+        synchronized (DivisionLeaderboard.class) {
+            return TREE.size();
+        }
+    }
+
+    /**
+     * Fetches the rank of a Division.
+     * @param d Division to use
+     * @return Division Rank, where 1 is first place, or 0 if the Division is not ranked
+     * @since 1.0.0
+     * @throws IllegalArgumentException if division is null
+     */
+    public static int getRank(@NotNull Division d) throws IllegalArgumentException {
+        if (d == null) throw new IllegalArgumentException("Division cannot be null");
+        Division.load();
+
+        synchronized (DivisionLeaderboard.class) {
+            Entry entry = ENTRIES.get(d.id);
+            if (entry == null || entry.division != d) return 0;
+
+            return TREE.indexOf(entry) + 1;
+        }
+    }
+
+    @NotNull
+    private static List<Division> get(int from, int limit) {
+        Division.load();
+
+        synchronized (DivisionLeaderboard.class) {
+            return TREE.range(from, limit)
+                    .stream()
+                    .map(e -> e.division)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    // Implementation
+
+    static synchronized void update(@NotNull Division d) {
+        Entry old = ENTRIES.remove(d.id);
+        if (old != null) TREE.remove(old);
+
+        Entry entry = new Entry(d, d.experience);
+        ENTRIES.put(d.id, entry);
+        TREE.add(entry);
+    }
+
+    static synchronized void remove(@NotNull Division d) {
+        Entry entry = ENTRIES.get(d.id);
+        if (entry == null || entry.division != d) return;
+
+        ENTRIES.remove(d.id);
+        TREE.remove(entry);
+    }
+
+    static synchronized void clear() {
+        ENTRIES.clear();
+        TREE.clear();
+    }
+
+    private static final class Entry {
+        final Division division;
+        final double experience;
+
+        Entry(Division division, double experience) {
+            this.division = division;
+            this.experience = experience;
+        }
+    }
+
+}
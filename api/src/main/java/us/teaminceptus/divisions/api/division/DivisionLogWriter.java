@@ -0,0 +1,424 @@
+package us.teaminceptus.divisions.api.division;
+
+import org.jetbrains.annotations.NotNull;
+import us.teaminceptus.divisions.api.DivConfig;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.Charset;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>Writes Division text logs, such as the chat and audit logs, on a background thread.</p>
+ * <p>Lines are queued with a bounded capacity and written in batches, keeping each log file open between writes. If
+ * the queue is full, lines are dropped instead of blocking the calling thread.</p>
+ * @since 1.0.0
+ */
+public final class DivisionLogWriter {
+
+    /**
+     * The maximum amount of lines waiting to be written.
+     * @since 1.0.0
+     */
+    public static final int CAPACITY = 8192;
+
+    private static final int FLUSH_LINES = 256;
+    private static final long FLUSH_INTERVAL = 1000;
+    private static final long IDLE_TIMEOUT = 60 * 1000;
+    private static final long SYNC_TIMEOUT = 30;
+
+    private static final DateTimeFormatter DAY = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("[HH:mm:ss] ");
+
+    private static final BlockingQueue<Line> QUEUE = new ArrayBlockingQueue<>(CAPACITY);
+
+    private static final AtomicLong WRITTEN = new AtomicLong();
+    private static final AtomicLong DROPPED = new AtomicLong();
+    private static final AtomicLong PEAK = new AtomicLong();
+
+    private static Thread thread;
+    private static volatile boolean running = false;
+
+    private DivisionLogWriter() { throw new UnsupportedOperationException("This class should not be instantiated"); }
+
+    /**
+     * Starts the DivisionLogWriter.
+     * @since 1.0.0
+     * @throws IllegalStateException if the DivisionLogWriter is already running
+     */
+    public static void start() throws IllegalStateException {
+        if (isRunning()) throw new IllegalStateException("DivisionLogWriter is already running");
+
+        running = true;
+        thread = new Thread(DivisionLogWriter::run, "Divisions Log Writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Whether the DivisionLogWriter is currently running.
+     * @return true if running, false otherwise
+     * @since 1.0.0
+     */
+    public static boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stops the DivisionLogWriter, writing all remaining lines before returning.
+     * @since 1.0.0
+     */
+    public static void shutdown() {
+        if (!isRunning()) return;
+
+        running = false;
+        thread.interrupt();
+
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        thread = null;
+    }
+
+    /**
+     * Fetches the amount of lines waiting to be written.
+     * @return Queued Line Count
+     * @since 1.0.0
+     */
+    public static int getQueueSize() {
+        return QUEUE.size();
+    }
+
+    /**
+     * Fetches the largest amount of lines that have been waiting to be written at once.
+     * @return Peak Queued Line Count
+     * @since 1.0.0
+     */
+    public static long getPeakQueueSize() {
+        return PEAK.get();
+    }
+
+    /**
+     * Fetches the amount of lines written since the server started.
+     * @return Written Line Count
+     * @since 1.0.0
+     */
+    public static long getWrittenCount() {
+        return WRITTEN.get();
+    }
+
+    /**
+     * Fetches the amount of lines dropped because the queue was full.
+     * @return Dropped Line Count
+     * @since 1.0.0
+     */
+    public static long getDroppedCount() {
+        return DROPPED.get();
+    }
+
+    // Implementation
+
+    static void log(@NotNull File folder, @NotNull String type, @NotNull String message) {
+        log(folder, type, message, System.currentTimeMillis());
+    }
+
+    static void log(@NotNull File folder, @NotNull String type, @NotNull String message, long timestamp) {
+        Line line = new Line(folder, type, message, timestamp);
+
+        if (!isRunning()) {
+            // Not started, write immediately
+            try (BufferedWriter writer = open(line.file())) {
+                writer.write(line.format());
+                writer.newLine();
+            } catch (IOException e) {
+                DivConfig.print(e);
+            }
+            return;
+        }
+
+        if (!QUEUE.offer(line)) {
+            if (DROPPED.getAndIncrement() % CAPACITY == 0)
+                DivConfig.getLogger().warning("Division log queue is full; dropped " + DROPPED.get() + " lines so far");
+            return;
+        }
+
+        int size = QUEUE.size();
+        PEAK.accumulateAndGet(size, Math::max);
+    }
+
+    /**
+     * Waits until all lines queued for a Division have been written, optionally closing its log files.
+     */
+    static void sync(@NotNull File folder, boolean close) {
+        if (!isRunning()) return;
+
+        Sync sync = new Sync(folder, close);
+        try {
+            // Waits for space instead of dropping the marker, but never indefinitely
+            if (!QUEUE.offer(sync, SYNC_TIMEOUT, TimeUnit.SECONDS)) {
+                DivConfig.getLogger().warning("Timed out waiting to sync Division logs for \"" + folder.getName() + "\"");
+                return;
+            }
+
+            sync.latch.await(SYNC_TIMEOUT, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Reads lines from the end of a log file, oldest first, without reading the lines before them.
+     * @param offset Amount of most recent lines to skip
+     * @param limit Maximum amount of lines to return
+     */
+    @NotNull
+    static List<String> tail(@NotNull File file, int offset, int limit) throws IOException {
+        List<String> lines = new ArrayList<>();
+        if (limit <= 0 || !file.exists()) return lines;
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            long end = raf.length();
+            if (end > 0) {
+                raf.seek(end - 1);
+                if (raf.read() == '\n') end--;
+            }
+
+            byte[] chunk = new byte[8192];
+            ByteArrayOutputStream reversed = new ByteArrayOutputStream();
+            int skipped = 0;
+
+            for (long pos = end; pos > 0 && lines.size() < limit; ) {
+                int read = (int) Math.min(chunk.length, pos);
+                pos -= read;
+                raf.seek(pos);
+                raf.readFully(chunk, 0, read);
+
+                for (int i = read - 1; i >= 0 && lines.size() < limit; i--) {
+                    if (chunk[i] != '\n') {
+                        reversed.write(chunk[i]);
+                        continue;
+                    }
+
+                    if (skipped < offset) skipped++;
+                    else lines.add(line(reversed));
+                    reversed.reset();
+                }
+
+                // First line of the file
+                if (pos == 0 && lines.size() < limit && skipped >= offset) lines.add(line(reversed));
+            }
+        }
+
+        Collections.reverse(lines);
+        return lines;
+    }
+
+    @NotNull
+    private static String line(@NotNull ByteArrayOutputStream reversed) {
+        byte[] bytes = reversed.toByteArray();
+        int length = bytes.length;
+        if (length > 0 && bytes[0] == '\r') length--;
+
+        byte[] line = new byte[length];
+        for (int i = 0; i < length; i++) line[i] = bytes[bytes.length - 1 - i];
+
+        // Written by FileWriter, which uses the default charset
+        return new String(line, Charset.defaultCharset());
+    }
+
+    @NotNull
+    static String format(long timestamp, @NotNull String message) {
+        return TIME.format(LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp), ZoneId.systemDefault())) + message;
+    }
+
+    // Writer Thread
+
+    private static final Map<File, Handle> HANDLES = new HashMap<>();
+
+    private static void run() {
+        List<Line> batch = new ArrayList<>(FLUSH_LINES);
+        int unflushed = 0;
+        long lastFlush = System.currentTimeMillis();
+
+        while (running || !QUEUE.isEmpty()) {
+            try {
+                Line first = QUEUE.poll(FLUSH_INTERVAL, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    QUEUE.drainTo(batch, FLUSH_LINES - 1);
+                }
+            } catch (InterruptedException ignored) {
+                // Interrupted by shutdown; drain the rest of the queue
+            }
+
+            for (Line line : batch) {
+                if (line instanceof Sync) {
+                    Sync sync = (Sync) line;
+                    flushAll();
+                    unflushed = 0;
+                    if (sync.close) close(sync.folder);
+
+                    sync.latch.countDown();
+                    continue;
+                }
+
+                try {
+                    Handle handle = handle(line);
+                    handle.writer.write(line.format());
+                    handle.writer.newLine();
+                    handle.lastWrite = line.timestamp;
+
+                    unflushed++;
+                    WRITTEN.incrementAndGet();
+                } catch (IOException e) {
+                    DivConfig.print(e);
+                }
+            }
+            batch.clear();
+
+            long now = System.currentTimeMillis();
+            if (unflushed >= FLUSH_LINES || (unflushed > 0 && now - lastFlush >= FLUSH_INTERVAL)) {
+                flushAll();
+                unflushed = 0;
+                lastFlush = now;
+            }
+
+            closeIdle(now);
+        }
+
+        flushAll();
+        for (Handle handle : HANDLES.values()) handle.close();
+        HANDLES.clear();
+    }
+
+    @NotNull
+    private static Handle handle(@NotNull Line line) throws IOException {
+        File key = new File(new File(line.folder, "logs"), line.type);
+        LocalDate day = line.day();
+
+        Handle handle = HANDLES.get(key);
+        if (handle != null && !handle.day.equals(day)) {
+            // Day Rollover
+            handle.close();
+            handle = null;
+        }
+
+        if (handle == null) {
+            handle = new Handle(open(line.file()), day);
+            HANDLES.put(key, handle);
+        }
+
+        return handle;
+    }
+
+    private static void flushAll() {
+        for (Handle handle : HANDLES.values())
+            try {
+                handle.writer.flush();
+            } catch (IOException e) {
+                DivConfig.print(e);
+            }
+    }
+
+    private static void close(@NotNull File folder) {
+        Iterator<Map.Entry<File, Handle>> it = HANDLES.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<File, Handle> entry = it.next();
+            if (!entry.getKey().getParentFile().getParentFile().equals(folder)) continue;
+
+            entry.getValue().close();
+            it.remove();
+        }
+    }
+
+    private static void closeIdle(long now) {
+        Iterator<Handle> it = HANDLES.values().iterator();
+        while (it.hasNext()) {
+            Handle handle = it.next();
+            if (now - handle.lastWrite < IDLE_TIMEOUT) continue;
+
+            handle.close();
+            it.remove();
+        }
+    }
+
+    @NotNull
+    private static BufferedWriter open(@NotNull File file) throws IOException {
+        if (!file.exists()) file.getParentFile().mkdirs();
+        return new BufferedWriter(new FileWriter(file, true));
+    }
+
+    private static class Line {
+        final File folder;
+        final String type;
+        final String message;
+        final long timestamp;
+
+        Line(File folder, String type, String message, long timestamp) {
+            this.folder = folder;
+            this.type = type;
+            this.message = message;
+            this.timestamp = timestamp;
+        }
+
+        LocalDate day() {
+            return Instant.ofEpochMilli(timestamp).atZone(ZoneId.systemDefault()).toLocalDate();
+        }
+
+        File file() {
+            return new File(new File(new File(folder, "logs"), type), DAY.format(day()) + ".log");
+        }
+
+        String format() {
+            return DivisionLogWriter.format(timestamp, message);
+        }
+    }
+
+    // Marks the point in the queue that sync(File, boolean) waits for; never written
+    private static final class Sync extends Line {
+        final boolean close;
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        Sync(File folder, boolean close) {
+            super(folder, null, null, 0);
+            this.close = close;
+        }
+    }
+
+    private static final class Handle {
+        final BufferedWriter writer;
+        final LocalDate day;
+        long lastWrite = System.currentTimeMillis();
+
+        Handle(BufferedWriter writer, LocalDate day) {
+            this.writer = writer;
+            this.day = day;
+        }
+
+        void close() {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                DivConfig.print(e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,139 @@
+package us.teaminceptus.divisions.api.division;
+
+import com.google.common.collect.ImmutableList;
+import org.bukkit.OfflinePlayer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Indexes all loaded Divisions by ID, name, owner and member.
+ */
+final class DivisionRegistry {
+
+    private static final Map<UUID, Division> BY_ID = new ConcurrentHashMap<>();
+    private static final Map<String, Division> BY_NAME = new ConcurrentHashMap<>();
+    private static final Map<UUID, Division> BY_OWNER = new ConcurrentHashMap<>();
+    private static final Map<UUID, Division> BY_MEMBER = new ConcurrentHashMap<>();
+
+    private static volatile boolean loaded = false;
+    private static volatile List<Division> divisions = null;
+
+    private DivisionRegistry() { throw new UnsupportedOperationException("This class should not be instantiated"); }
+
+    static boolean isLoaded() {
+        return loaded;
+    }
+
+    static synchronized void load(@NotNull Collection<Division> loaded) {
+        clear();
+        loaded.forEach(DivisionRegistry::register);
+        DivisionRegistry.loaded = true;
+    }
+
+    static synchronized void clear() {
+        BY_ID.clear();
+        BY_NAME.clear();
+        BY_OWNER.clear();
+        BY_MEMBER.clear();
+
+        divisions = null;
+        loaded = false;
+        DivisionCache.clear();
+        DivisionLeaderboard.clear();
+    }
+
+    static synchronized void register(@NotNull Division d) {
+        Division old = BY_ID.put(d.id, d);
+        if (old != null && old != d) {
+            unindex(old);
+            DivisionCache.remove(old);
+        }
+
+        if (d.name != null) BY_NAME.put(key(d.name), d);
+        BY_OWNER.put(d.owner.getUniqueId(), d);
+        for (OfflinePlayer member : d.members) BY_MEMBER.put(member.getUniqueId(), d);
+        if (d.bodyLoaded) DivisionCache.touch(d);
+        DivisionLeaderboard.update(d);
+
+        divisions = null;
+    }
+
+    static synchronized void unregister(@NotNull Division d) {
+        if (!BY_ID.remove(d.id, d)) return;
+        unindex(d);
+        DivisionCache.remove(d);
+        DivisionLeaderboard.remove(d);
+
+        divisions = null;
+    }
+
+    private static void unindex(@NotNull Division d) {
+        if (d.name != null) BY_NAME.remove(key(d.name), d);
+        BY_OWNER.remove(d.owner.getUniqueId(), d);
+        for (OfflinePlayer member : d.members) BY_MEMBER.remove(member.getUniqueId(), d);
+    }
+
+    // Index Updates
+
+    static void rename(@NotNull Division d, @Nullable String oldName) {
+        if (!isRegistered(d)) return;
+
+        if (oldName != null) BY_NAME.remove(key(oldName), d);
+        BY_NAME.put(key(d.name), d);
+    }
+
+    static void addMember(@NotNull Division d, @NotNull UUID member) {
+        if (!isRegistered(d)) return;
+        BY_MEMBER.put(member, d);
+    }
+
+    static void removeMember(@NotNull Division d, @NotNull UUID member) {
+        if (!isRegistered(d)) return;
+        BY_MEMBER.remove(member, d);
+    }
+
+    private static boolean isRegistered(@NotNull Division d) {
+        return BY_ID.get(d.id) == d;
+    }
+
+    // Lookups
+
+    @NotNull
+    static List<Division> getDivisions() {
+        List<Division> list = divisions;
+        if (list != null) return list;
+
+        synchronized (DivisionRegistry.class) {
+            if (divisions == null) divisions = ImmutableList.copyOf(BY_ID.values());
+            return divisions;
+        }
+    }
+
+    @Nullable
+    static Division byId(@NotNull UUID id) {
+        return BY_ID.get(id);
+    }
+
+    @Nullable
+    static Division byName(@NotNull String name) {
+        return BY_NAME.get(key(name));
+    }
+
+    @Nullable
+    static Division byOwner(@NotNull UUID owner) {
+        return BY_OWNER.get(owner);
+    }
+
+    @Nullable
+    static Division byMember(@NotNull UUID member) {
+        return BY_MEMBER.get(member);
+    }
+
+    private static String key(@NotNull String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -0,0 +1,180 @@
+package us.teaminceptus.divisions.api.division;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import us.teaminceptus.divisions.api.DivConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * <p>Batches and writes modified Divisions to the file system.</p>
+ * <p>Changes made to a Division are marked dirty and coalesced until the next flush, where the dirty sections of each
+ * Division are encoded on the main thread and written on a separate thread.</p>
+ * @since 1.0.0
+ */
+public final class DivisionSaver {
+
+    private static final Set<Division> QUEUE = ConcurrentHashMap.newKeySet();
+
+    private static volatile ExecutorService executor;
+    private static volatile BukkitTask task;
+
+    // Thread that writes are run on
+    private static volatile Thread thread;
+
+    private DivisionSaver() { throw new UnsupportedOperationException("This class should not be instantiated"); }
+
+    /**
+     * Starts the DivisionSaver, flushing all modified Divisions on the given interval.
+     * @param plugin Plugin to schedule the flush task under
+     * @param interval Interval between flushes, in ticks
+     * @since 1.0.0
+     * @throws IllegalArgumentException if plugin is null or interval is not positive
+     * @throws IllegalStateException if the DivisionSaver is already running
+     */
+    public static void start(@NotNull Plugin plugin, long interval) throws IllegalArgumentException, IllegalStateException {
+        if (plugin == null) throw new IllegalArgumentException("Plugin cannot be null");
+        if (interval < 1) throw new IllegalArgumentException("Interval must be positive");
+        if (isRunning()) throw new IllegalStateException("DivisionSaver is already running");
+
+        executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "Divisions Saver");
+            t.setDaemon(true);
+            thread = t;
+            return t;
+        });
+        task = Bukkit.getScheduler().runTaskTimer(plugin, DivisionSaver::flush, interval, interval);
+    }
+
+    /**
+     * Whether the DivisionSaver is currently running.
+     * @return true if running, false otherwise
+     * @since 1.0.0
+     */
+    public static boolean isRunning() {
+        return task != null;
+    }
+
+    /**
+     * Fetches the amount of Divisions waiting to be flushed.
+     * @return Pending Division Count
+     * @since 1.0.0
+     */
+    public static int getPendingCount() {
+        return QUEUE.size();
+    }
+
+    /**
+     * Copies all modified Divisions and queues them to be written, then unloads unused Divisions if lazy loading is
+     * enabled. Must be called on the main thread.
+     * @since 1.0.0
+     */
+    public static void flush() {
+        submit();
+        DivisionCache.evict();
+    }
+
+    /**
+     * Copies all modified Divisions and waits until they, and all previously queued writes, have been written.
+     * Must be called on the main thread.
+     * @since 1.0.0
+     */
+    public static void flushNow() {
+        await(submit());
+    }
+
+    /**
+     * Stops the DivisionSaver, writing all remaining modified Divisions before returning.
+     * @since 1.0.0
+     */
+    public static void shutdown() {
+        if (!isRunning()) return;
+
+        task.cancel();
+        task = null;
+
+        await(submit());
+        executor.shutdown();
+
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS))
+                DivConfig.getLogger().severe("Timed out waiting for Divisions to save!");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        executor = null;
+        thread = null;
+    }
+
+    // Implementation
+
+    static void schedule(@NotNull Division d) {
+        if (!isRunning()) {
+            // Plugin not enabled yet, write immediately
+            Runnable write = d.snapshot();
+            if (write != null) write.run();
+            return;
+        }
+
+        QUEUE.add(d);
+    }
+
+    static void run(@NotNull Division d, @NotNull Runnable action) {
+        QUEUE.remove(d);
+
+        ExecutorService executor = DivisionSaver.executor;
+        if (!isRunning() || executor == null) action.run();
+        else await(executor.submit(action));
+    }
+
+    static void sync() {
+        ExecutorService executor = DivisionSaver.executor;
+        if (executor == null || Thread.currentThread() == thread) return;
+
+        await(executor.submit(() -> {}));
+    }
+
+    private static Future<?> submit() {
+        List<Runnable> writes = new ArrayList<>();
+
+        for (Division d : QUEUE) {
+            QUEUE.remove(d);
+
+            Runnable write = d.snapshot();
+            if (write != null) writes.add(write);
+        }
+
+        ExecutorService executor = DivisionSaver.executor;
+        if (executor == null) {
+            writes.forEach(Runnable::run);
+            return null;
+        }
+
+        return executor.submit(() -> writes.forEach(Runnable::run));
+    }
+
+    private static void await(Future<?> future) {
+        if (future == null) return;
+
+        try {
+            future.get(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            DivConfig.print(e);
+        }
+    }
+
+}
@@ -0,0 +1,179 @@
+package us.teaminceptus.divisions.api.division;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import us.teaminceptus.divisions.api.division.logs.AuditLogEntry;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * <p>Represents where Divisions are persisted.</p>
+ * <p>Section contents passed to and from a DivisionStorage are encoded in the Divisions binary format, and are copied
+ * before being handed to the storage; methods other than loading may be called off of the main thread.</p>
+ * @since 1.0.0
+ */
+public interface DivisionStorage {
+
+    /**
+     * Loads all Divisions from this storage. Divisions that fail to load are reported and skipped. Audit logs are
+     * not loaded, and are read with {@link #streamAuditLog(UUID)} and {@link #getAuditLog(UUID, Date, Date, int)}.
+     * @return All Divisions
+     * @throws IOException if an I/O error occurs
+     * @since 1.0.0
+     */
+    @NotNull
+    List<Division> loadAll() throws IOException;
+
+    /**
+     * <p>Loads the header of all Divisions from this storage, which includes all of its information other than its
+     * achievements, settings and social media.</p>
+     * <p>The rest of a Division is loaded from this storage when first accessed.</p>
+     * @return All Divisions, with only their header loaded
+     * @throws IOException if an I/O error occurs
+     * @since 1.0.0
+     */
+    @NotNull
+    default List<Division> loadHeaders() throws IOException {
+        List<Division> divisions = loadAll();
+        divisions.forEach(Division::unloadBody);
+
+        return divisions;
+    }
+
+    /**
+     * Whether this storage does not contain any Divisions.
+     * @return true if empty, false otherwise
+     * @throws IOException if an I/O error occurs
+     * @since 1.0.0
+     */
+    default boolean isEmpty() throws IOException {
+        return loadHeaders().isEmpty();
+    }
+
+    /**
+     * Loads a Division from this storage.
+     * @param id Division ID
+     * @return Division loaded, or null if not found
+     * @throws IOException if an I/O error occurs, or the Division is invalid
+     * @since 1.0.0
+     */
+    @Nullable
+    Division load(@NotNull UUID id) throws IOException;
+
+    /**
+     * <p>Saves the changed sections of a Division.</p>
+     * <p>The audit log is append-only: {@link Division.Section#AUDIT_LOG}, if changed, only contains the entries added
+     * since the last save.</p>
+     * @param id Division ID
+     * @param sections The encoded contents of every section of the Division
+     * @param changed The sections that have changed since the last save
+     * @throws IOException if an I/O error occurs
+     * @since 1.0.0
+     */
+    void save(@NotNull UUID id, @NotNull Map<Division.Section, byte[]> sections, @NotNull Set<Division.Section> changed) throws IOException;
+
+    /**
+     * Deletes a Division from this storage.
+     * @param id Division ID
+     * @throws IOException if an I/O error occurs
+     * @since 1.0.0
+     */
+    void delete(@NotNull UUID id) throws IOException;
+
+    /**
+     * Streams the audit log of a Division, in the order the entries were added.
+     * @param id Division ID
+     * @return Audit Log Entries
+     * @throws IOException if an I/O error occurs
+     * @since 1.0.0
+     */
+    @NotNull
+    Stream<AuditLogEntry> streamAuditLog(@NotNull UUID id) throws IOException;
+
+    /**
+     * Fetches the audit log entries of a Division between two dates, oldest first.
+     * @param id Division ID
+     * @param from Earliest Date, inclusive
+     * @param to Latest Date, inclusive
+     * @param limit Maximum amount of entries to return
+     * @return Audit Log Entries between the two dates
+     * @throws IOException if an I/O error occurs
+     * @since 1.0.0
+     */
+    @NotNull
+    default List<AuditLogEntry> getAuditLog(@NotNull UUID id, @NotNull Date from, @NotNull Date to, int limit) throws IOException {
+        try (Stream<AuditLogEntry> entries = streamAuditLog(id)) {
+            return entries
+                    .filter(e -> !e.getTimestamp().before(from) && !e.getTimestamp().after(to))
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Closes this storage, releasing any resources held.
+     * @throws IOException if an I/O error occurs
+     * @since 1.0.0
+     */
+    default void close() throws IOException {}
+
+    /**
+     * Copies all Divisions from another storage into this storage.
+     * @param other Storage to copy from
+     * @return Amount of Divisions copied
+     * @throws IOException if an I/O error occurs
+     * @since 1.0.0
+     */
+    default int importFrom(@NotNull DivisionStorage other) throws IOException {
+        List<Division> divisions = other.loadAll();
+        Set<Division.Section> all = EnumSet.allOf(Division.Section.class);
+
+        for (Division d : divisions) {
+            Map<Division.Section, byte[]> sections = new EnumMap<>(Division.Section.class);
+            for (Division.Section section : all) sections.put(section, DivisionCodec.encode(d, section));
+
+            try (Stream<AuditLogEntry> entries = other.streamAuditLog(d.getUniqueId())) {
+                List<AuditLogEntry> auditLog = entries.collect(Collectors.toList());
+
+                // Imported Divisions are not registered, so entries naming them are read back as their ID
+                for (AuditLogEntry entry : auditLog) if (d.getUniqueId().equals(entry.getData())) entry.setData(d);
+
+                sections.put(Division.Section.AUDIT_LOG, DivisionCodec.encodeAuditLog(auditLog));
+            }
+
+            save(d.getUniqueId(), sections, all);
+        }
+
+        return divisions.size();
+    }
+
+    // Implementations
+
+    /**
+     * Creates a DivisionStorage that stores each Division in its own folder.
+     * @param directory Directory to store Divisions in
+     * @return File Storage
+     * @since 1.0.0
+     */
+    @NotNull
+    static DivisionStorage file(@NotNull File directory) {
+        return new FileDivisionStorage(directory);
+    }
+
+    /**
+     * Creates a DivisionStorage backed by a local SQLite database.
+     * @param database SQLite Database File
+     * @return SQLite Storage
+     * @throws IOException if the database could not be opened
+     * @since 1.0.0
+     */
+    @NotNull
+    static DivisionStorage sqlite(@NotNull File database) throws IOException {
+        return new SQLiteDivisionStorage(database);
+    }
+
+}
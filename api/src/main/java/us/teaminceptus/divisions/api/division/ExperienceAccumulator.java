@@ -0,0 +1,129 @@
+package us.teaminceptus.divisions.api.division;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Collects experience added to Divisions and commits it on a fixed interval.</p>
+ * <p>Experience added through {@link Division#addExpereince(double)} is summed without locking, then added to each
+ * Division once per commit on the main thread, which saves the Division and calls a
+ * {@link us.teaminceptus.divisions.api.events.division.DivisionLevelChangeEvent} at most once.</p>
+ * @since 1.0.0
+ */
+public final class ExperienceAccumulator {
+
+    private static final Set<Division> PENDING = ConcurrentHashMap.newKeySet();
+
+    private static final LongAdder GRANTS = new LongAdder();
+    private static final LongAdder COMMITS = new LongAdder();
+
+    private static volatile BukkitTask task;
+
+    private ExperienceAccumulator() { throw new UnsupportedOperationException("This class should not be instantiated"); }
+
+    /**
+     * Starts the ExperienceAccumulator, committing experience on the given interval.
+     * @param plugin Plugin to schedule the commit task under
+     * @param interval Interval between commits, in ticks
+     * @since 1.0.0
+     * @throws IllegalArgumentException if plugin is null or interval is not positive
+     * @throws IllegalStateException if the ExperienceAccumulator is already running
+     */
+    public static void start(@NotNull Plugin plugin, long interval) throws IllegalArgumentException, IllegalStateException {
+        if (plugin == null) throw new IllegalArgumentException("Plugin cannot be null");
+        if (interval < 1) throw new IllegalArgumentException("Interval must be positive");
+        if (isRunning()) throw new IllegalStateException("ExperienceAccumulator is already running");
+
+        task = Bukkit.getScheduler().runTaskTimer(plugin, ExperienceAccumulator::commit, interval, interval);
+    }
+
+    /**
+     * Whether the ExperienceAccumulator is currently running.
+     * @return true if running, false otherwise
+     * @since 1.0.0
+     */
+    public static boolean isRunning() {
+        return task != null;
+    }
+
+    /**
+     * Stops the ExperienceAccumulator, committing all remaining experience.
+     * @since 1.0.0
+     */
+    public static void shutdown() {
+        if (!isRunning()) return;
+
+        task.cancel();
+        task = null;
+
+        commit();
+    }
+
+    /**
+     * Commits the experience added to all Divisions since the last commit. Must be called on the main thread.
+     * @since 1.0.0
+     */
+    public static void commit() {
+        for (Division d : PENDING) commit(d);
+    }
+
+    /**
+     * Fetches the amount of Divisions with experience waiting to be committed.
+     * @return Pending Division Count
+     * @since 1.0.0
+     */
+    public static int getPendingCount() {
+        return PENDING.size();
+    }
+
+    /**
+     * Fetches the amount of times experience has been added since the server started.
+     * @return Experience Grant Count
+     * @since 1.0.0
+     */
+    public static long getGrantCount() {
+        return GRANTS.sum();
+    }
+
+    /**
+     * Fetches the amount of times experience has been committed to a Division since the server started.
+     * @return Experience Commit Count
+     * @since 1.0.0
+     */
+    public static long getCommitCount() {
+        return COMMITS.sum();
+    }
+
+    // Implementation
+
+    static void grant(@NotNull Division d, double experience) {
+        GRANTS.increment();
+
+        // Added to the Division before queueing it, so that a concurrent commit cannot miss it
+        d.pendingExperience.add(experience);
+        PENDING.add(d);
+    }
+
+    static void commit(@NotNull Division d) {
+        if (!PENDING.remove(d)) return;
+
+        double experience = d.pendingExperience.sumThenReset();
+        if (experience == 0) return;
+
+        d.setExperience(Math.max(0, d.experience + experience));
+        COMMITS.increment();
+    }
+
+    // Drops experience that has not been committed, such as when a Division is removed
+    static void discard(@NotNull Division d) {
+        PENDING.remove(d);
+        d.pendingExperience.sumThenReset();
+    }
+
+}
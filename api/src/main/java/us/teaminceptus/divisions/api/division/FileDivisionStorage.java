@@ -0,0 +1,344 @@
+package us.teaminceptus.divisions.api.division;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import us.teaminceptus.divisions.api.DivConfig;
+import us.teaminceptus.divisions.api.division.logs.AuditLogEntry;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+final class FileDivisionStorage implements DivisionStorage {
+
+    private static final String[] LEGACY_FILES = {
+            "info.dat", "members.dat", "bans.dat", "achievements.dat", "logs/audit/audit.dat", "settings.yml", "other.yml", "socials.dat"
+    };
+
+    private final File directory;
+
+    FileDivisionStorage(@NotNull File directory) {
+        this.directory = directory;
+    }
+
+    @NotNull
+    @Override
+    public List<Division> loadAll() throws IOException {
+        return loadAll(false);
+    }
+
+    @NotNull
+    @Override
+    public List<Division> loadHeaders() throws IOException {
+        return loadAll(true);
+    }
+
+    @NotNull
+    private List<Division> loadAll(boolean headers) throws IOException {
+        List<Division> divisions = new ArrayList<>();
+
+        File[] folders = directory.listFiles(File::isDirectory);
+        if (folders == null || folders.length == 0) return divisions;
+
+        long start = System.currentTimeMillis();
+
+        // Read files in parallel, then decode on the calling thread, where Bukkit objects can be resolved
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), MAX_THREADS)));
+        List<RawDivision> raw;
+        try {
+            raw = pool.submit(() -> Arrays.stream(folders)
+                    .parallel()
+                    .map(File::getAbsoluteFile)
+                    .map(RawDivision::read)
+                    .collect(Collectors.toList())
+            ).get();
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } finally {
+            pool.shutdown();
+        }
+
+        int failed = 0;
+        for (RawDivision r : raw)
+            try {
+                Division d = r.decode(headers);
+                if (headers) d.unloadBody();
+
+                divisions.add(d);
+            } catch (IOException e) {
+                failed++;
+                quarantine(r.folder, e);
+            } catch (RuntimeException e) {
+                // Not a problem with the files, so they are left in place
+                failed++;
+                DivConfig.getLogger().severe("Failed to load Division \"" + r.folder.getName() + "\": " + e);
+            }
+
+        DivConfig.getLogger().info("Loaded " + divisions.size() + " Divisions (" + failed + " failed) in " + (System.currentTimeMillis() - start) + "ms");
+        return divisions;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        File[] folders = directory.listFiles(File::isDirectory);
+        return folders == null || folders.length == 0;
+    }
+
+    @Nullable
+    @Override
+    public Division load(@NotNull UUID id) throws IOException {
+        File folder = new File(directory, id.toString());
+        if (!folder.isDirectory()) return null;
+
+        return RawDivision.read(folder.getAbsoluteFile()).decode(false);
+    }
+
+    @Override
+    public void save(@NotNull UUID id, @NotNull Map<Division.Section, byte[]> sections, @NotNull Set<Division.Section> changed) throws IOException {
+        File folder = new File(directory, id.toString());
+
+        byte[][] data = new byte[Division.Section.values().length][];
+        for (Map.Entry<Division.Section, byte[]> entry : sections.entrySet()) data[entry.getKey().ordinal()] = entry.getValue();
+
+        write(folder, data);
+        if (changed.contains(Division.Section.AUDIT_LOG))
+            new AuditLogStore(folder).append(DivisionCodec.decodeAuditLog(sections.get(Division.Section.AUDIT_LOG)));
+    }
+
+    @Override
+    public void delete(@NotNull UUID id) throws IOException {
+        File folder = new File(directory, id.toString());
+
+        Files.deleteIfExists(new File(folder, DivisionCodec.FILE_NAME).toPath());
+        Files.deleteIfExists(new File(folder, DivisionCodec.FILE_NAME + ".tmp").toPath());
+        new AuditLogStore(folder).delete();
+    }
+
+    @NotNull
+    @Override
+    public Stream<AuditLogEntry> streamAuditLog(@NotNull UUID id) throws IOException {
+        return new AuditLogStore(new File(directory, id.toString())).readAll().stream().map(DivisionCodec::resolve);
+    }
+
+    @NotNull
+    @Override
+    public List<AuditLogEntry> getAuditLog(@NotNull UUID id, @NotNull Date from, @NotNull Date to, int limit) throws IOException {
+        List<AuditLogEntry> entries = new AuditLogStore(new File(directory, id.toString())).read(from.getTime(), to.getTime(), limit);
+        entries.forEach(DivisionCodec::resolve);
+        return entries;
+    }
+
+    // Reading
+
+    private static final int MAX_THREADS = 8;
+
+    private static final class RawDivision {
+        final File folder;
+        final byte[][] sections;
+        final IOException error;
+
+        RawDivision(File folder, byte[][] sections, IOException error) {
+            this.folder = folder;
+            this.sections = sections;
+            this.error = error;
+        }
+
+        // Only reads files, so that it can run off the main thread
+        static RawDivision read(File folder) {
+            File file = new File(folder, DivisionCodec.FILE_NAME);
+            // Legacy Divisions are migrated on the calling thread
+            if (!file.exists()) return new RawDivision(folder, null, null);
+
+            try {
+                return new RawDivision(folder, DivisionCodec.read(file), null);
+            } catch (IOException e) {
+                return new RawDivision(folder, null, e);
+            }
+        }
+
+        Division decode(boolean headers) throws IOException {
+            if (error != null) throw error;
+            if (sections == null) return migrate(folder);
+
+            // Move Audit Log out of division.bin
+            byte[] auditLog = sections[Division.Section.AUDIT_LOG.ordinal()];
+            if (auditLog != null) {
+                AuditLogStore store = new AuditLogStore(folder);
+                if (!store.exists()) store.append(DivisionCodec.decodeAuditLog(auditLog));
+
+                sections[Division.Section.AUDIT_LOG.ordinal()] = null;
+                DivisionCodec.write(folder, sections);
+            }
+
+            if (headers)
+                for (Division.Section section : Division.Section.BODY) sections[section.ordinal()] = null;
+
+            return DivisionCodec.decode(folder, sections);
+        }
+    }
+
+    private static void write(@NotNull File folder, @NotNull byte[][] sections) throws IOException {
+        // Audit Log is stored separately in an AuditLogStore
+        byte[][] data = sections.clone();
+        data[Division.Section.AUDIT_LOG.ordinal()] = null;
+
+        DivisionCodec.write(folder, data);
+    }
+
+    private void quarantine(@NotNull File folder, @NotNull Exception e) {
+        File target = new File(new File(directory.getParentFile(), "quarantine"), folder.getName() + "-" + System.currentTimeMillis());
+        DivConfig.getLogger().severe("Failed to load Division \"" + folder.getName() + "\": " + e.getMessage());
+
+        try {
+            Files.createDirectories(target.getParentFile().toPath());
+            Files.move(folder.toPath(), target.toPath());
+            DivConfig.getLogger().severe("Moved Division \"" + folder.getName() + "\" to " + target.getPath());
+        } catch (IOException e2) {
+            DivConfig.getLogger().severe("Could not quarantine Division \"" + folder.getName() + "\": " + e2.getMessage());
+        }
+    }
+
+    @NotNull
+    private static Division migrate(@NotNull File folder) throws IOException {
+        Division d;
+        try {
+            d = readLegacy(folder);
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new IOException("Invalid Legacy Division: " + folder, e);
+        }
+
+        byte[][] sections = new byte[Division.Section.values().length][];
+        for (Division.Section section : Division.Section.values()) {
+            if (section == Division.Section.AUDIT_LOG) continue;
+            sections[section.ordinal()] = DivisionCodec.encode(d, section);
+        }
+
+        write(folder, sections);
+        System.arraycopy(sections, 0, d.encoded, 0, sections.length);
+
+        AuditLogStore store = new AuditLogStore(folder);
+        if (!store.exists()) store.append(d.auditLog);
+        d.auditLog.clear();
+
+        for (String name : LEGACY_FILES) new File(folder, name).delete();
+        DivConfig.getLogger().info("Migrated Division \"" + d.getName() + "\" to " + DivisionCodec.FILE_NAME);
+
+        return d;
+    }
+
+    @SuppressWarnings("unchecked")
+    @NotNull
+    private static Division readLegacy(@NotNull File folder) throws IOException, ReflectiveOperationException {
+        // ID Information
+
+        File info = new File(folder, "info.dat");
+        if (!info.exists()) throw new IOException("Could not find: info.dat");
+
+        ObjectInputStream infoIs = new ObjectInputStream(Files.newInputStream(info.toPath()));
+        UUID id = (UUID) infoIs.readObject();
+        long creationDate = infoIs.readLong();
+        OfflinePlayer owner = Bukkit.getOfflinePlayer((UUID) infoIs.readObject());
+        infoIs.close();
+
+        Division d = new Division(folder, id, creationDate, owner);
+
+        // Members
+
+        File members = new File(folder, "members.dat");
+        if (!members.exists()) throw new IOException("Could not find: members.dat");
+
+        ObjectInputStream membersIs = new ObjectInputStream(Files.newInputStream(members.toPath()));
+        List<UUID> memberIds = (List<UUID>) membersIs.readObject();
+        membersIs.close();
+
+        d.members.addAll(memberIds
+                .stream()
+                .map(Bukkit::getOfflinePlayer)
+                .collect(Collectors.toList()));
+
+        // Ban List
+
+        File bans = new File(folder, "bans.dat");
+        if (!bans.exists()) throw new IOException("Could not find: bans.dat");
+
+        ObjectInputStream bansIs = new ObjectInputStream(Files.newInputStream(bans.toPath()));
+        Collection<UUID> banIds = (Collection<UUID>) bansIs.readObject();
+        bansIs.close();
+
+        d.banList.addAll(banIds);
+
+        // Achievements
+
+        File achievements = new File(folder, "achievements.dat");
+        if (!achievements.exists()) throw new IOException("Could not find: achievements.dat");
+
+        ObjectInputStream achievementsIs = new ObjectInputStream(Files.newInputStream(achievements.toPath()));
+        Map<DivisionAchievement, Integer> achievementsMap = (Map<DivisionAchievement, Integer>) achievementsIs.readObject();
+        achievementsIs.close();
+
+        d.achievements.putAll(achievementsMap);
+
+        // Audit Log
+
+        File auditLog = new File(folder, "logs/audit/audit.dat");
+        if (auditLog.exists()) try (ObjectInputStream auditLogIs = new ObjectInputStream(Files.newInputStream(auditLog.toPath()))) {
+            d.auditLog.addAll((List<AuditLogEntry>) auditLogIs.readObject());
+        } catch (IOException e) {
+            DivConfig.getLogger().warning("Could not read legacy audit log for Division " + id + ": " + e.getMessage());
+        }
+
+        // Other Information
+
+        File other = new File(folder, "other.yml");
+        if (!other.exists()) throw new IOException("Could not find: other.yml");
+
+        FileConfiguration oConfig = YamlConfiguration.loadConfiguration(other);
+        d.name = oConfig.getString("name");
+        d.home = (Location) oConfig.get("home");
+        d.experience = oConfig.getDouble("experience", 0);
+        d.prefix = oConfig.getString("prefix");
+        d.tagline = oConfig.getString("tagline", "");
+
+        // Social Media
+
+        File socials = new File(folder, "socials.dat");
+        if (!socials.exists()) throw new IOException("Could not find: socials.dat");
+
+        ObjectInputStream socialsIs = new ObjectInputStream(Files.newInputStream(socials.toPath()));
+        Map<SocialMedia, String> socialsMap = (Map<SocialMedia, String>) socialsIs.readObject();
+        socialsIs.close();
+
+        d.socialMedia.putAll(socialsMap);
+
+        // Settings
+
+        File settings = new File(folder, "settings.yml");
+        if (!settings.exists()) throw new IOException("Could not find: settings.yml");
+
+        YamlConfiguration settingsYml = YamlConfiguration.loadConfiguration(settings);
+        for (DivSetting<?> setting : DivSetting.values()) {
+            if (!setting.isUnlocked(Division.toLevel(d.experience))) continue;
+            d.setSettingValue(setting, settingsYml.get(setting.getKey()));
+        }
+
+        for (String key : settingsYml.getKeys(false))
+            if (DivSetting.byKey(key) == null) d.unknownSettings.put(key, settingsYml.get(key));
+
+        return d;
+    }
+
+}
@@ -0,0 +1,190 @@
+package us.teaminceptus.divisions.api.division;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Order-statistic treap, where each node stores the size of its subtree so that elements can be found by rank.
+ * Elements are ordered by the comparator, which must only consider two elements equal if they are the same element.
+ */
+final class RankedTree<T> {
+
+    private final Comparator<? super T> comparator;
+    private final SplittableRandom random = new SplittableRandom();
+
+    private Node<T> root = null;
+
+    RankedTree(@NotNull Comparator<? super T> comparator) {
+        this.comparator = comparator;
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    void clear() {
+        root = null;
+    }
+
+    void add(@NotNull T value) {
+        root = insert(root, new Node<>(value, random.nextInt()));
+    }
+
+    boolean remove(@NotNull T value) {
+        int size = size();
+        root = delete(root, value);
+        return size() != size;
+    }
+
+    /**
+     * Fetches the index of an element, starting at 0.
+     * @return Element Index, or -1 if not found
+     */
+    int indexOf(@NotNull T value) {
+        int index = 0;
+        Node<T> node = root;
+
+        while (node != null) {
+            int c = comparator.compare(value, node.value);
+            if (c == 0) return index + size(node.left);
+
+            if (c < 0) node = node.left;
+            else {
+                index += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+
+        return -1;
+    }
+
+    @Nullable
+    T get(int index) {
+        if (index < 0 || index >= size()) return null;
+
+        Node<T> node = root;
+        while (node != null) {
+            int left = size(node.left);
+            if (index == left) return node.value;
+
+            if (index < left) node = node.left;
+            else {
+                index -= left + 1;
+                node = node.right;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Fetches the elements from an index, in order.
+     */
+    @NotNull
+    List<T> range(int from, int limit) {
+        List<T> list = new ArrayList<>(Math.max(0, Math.min(limit, size() - from)));
+        if (from < 0 || limit <= 0) return list;
+
+        collect(root, from, from + limit, 0, list);
+        return list;
+    }
+
+    private void collect(@Nullable Node<T> node, int from, int to, int offset, @NotNull List<T> list) {
+        if (node == null || offset >= to) return;
+
+        int index = offset + size(node.left);
+        if (from < index) collect(node.left, from, to, offset, list);
+        if (index >= from && index < to) list.add(node.value);
+        if (to > index + 1) collect(node.right, from, to, index + 1, list);
+    }
+
+    // Treap Operations
+
+    private Node<T> insert(@Nullable Node<T> node, @NotNull Node<T> added) {
+        if (node == null) return added;
+
+        if (added.priority > node.priority) {
+            Node<T>[] split = split(node, added.value);
+            added.left = split[0];
+            added.right = split[1];
+            return update(added);
+        }
+
+        if (comparator.compare(added.value, node.value) < 0) node.left = insert(node.left, added);
+        else node.right = insert(node.right, added);
+
+        return update(node);
+    }
+
+    private Node<T> delete(@Nullable Node<T> node, @NotNull T value) {
+        if (node == null) return null;
+
+        int c = comparator.compare(value, node.value);
+        if (c == 0) return merge(node.left, node.right);
+
+        if (c < 0) node.left = delete(node.left, value);
+        else node.right = delete(node.right, value);
+
+        return update(node);
+    }
+
+    // Splits into elements before and not before the value
+    @SuppressWarnings("unchecked")
+    private Node<T>[] split(@Nullable Node<T> node, @NotNull T value) {
+        if (node == null) return new Node[2];
+
+        if (comparator.compare(node.value, value) < 0) {
+            Node<T>[] split = split(node.right, value);
+            node.right = split[0];
+            split[0] = update(node);
+            return split;
+        } else {
+            Node<T>[] split = split(node.left, value);
+            node.left = split[1];
+            split[1] = update(node);
+            return split;
+        }
+    }
+
+    private Node<T> merge(@Nullable Node<T> left, @Nullable Node<T> right) {
+        if (left == null) return right;
+        if (right == null) return left;
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return update(left);
+        } else {
+            right.left = merge(left, right.left);
+            return update(right);
+        }
+    }
+
+    private static <T> Node<T> update(@NotNull Node<T> node) {
+        node.size = 1 + size(node.left) + size(node.right);
+        return node;
+    }
+
+    private static int size(@Nullable Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node<T> {
+        final T value;
+        final int priority;
+
+        int size = 1;
+        Node<T> left;
+        Node<T> right;
+
+        Node(T value, int priority) {
+            this.value = value;
+            this.priority = priority;
+        }
+    }
+
+}
@@ -0,0 +1,365 @@
+package us.teaminceptus.divisions.api.division;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import us.teaminceptus.divisions.api.DivConfig;
+import us.teaminceptus.divisions.api.division.logs.AuditLogEntry;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.sql.*;
+import java.util.*;
+import java.util.Date;
+import java.util.stream.Stream;
+
+final class SQLiteDivisionStorage implements DivisionStorage {
+
+    private static final String[] SCHEMA = {
+            "CREATE TABLE IF NOT EXISTS divisions (id TEXT PRIMARY KEY, name TEXT, owner TEXT NOT NULL, creation_date INTEGER NOT NULL, experience REAL NOT NULL DEFAULT 0)",
+            "CREATE INDEX IF NOT EXISTS divisions_name ON divisions (name COLLATE NOCASE)",
+            "CREATE INDEX IF NOT EXISTS divisions_owner ON divisions (owner)",
+            "CREATE INDEX IF NOT EXISTS divisions_experience ON divisions (experience DESC)",
+
+            "CREATE TABLE IF NOT EXISTS sections (division TEXT NOT NULL, section INTEGER NOT NULL, data BLOB NOT NULL, version INTEGER NOT NULL DEFAULT 1, PRIMARY KEY (division, section))",
+
+            "CREATE TABLE IF NOT EXISTS members (division TEXT NOT NULL, player TEXT NOT NULL, PRIMARY KEY (division, player))",
+            "CREATE INDEX IF NOT EXISTS members_player ON members (player)",
+
+            "CREATE TABLE IF NOT EXISTS bans (division TEXT NOT NULL, player TEXT NOT NULL, PRIMARY KEY (division, player))",
+            "CREATE INDEX IF NOT EXISTS bans_player ON bans (player)",
+
+            "CREATE TABLE IF NOT EXISTS audit_log (division TEXT NOT NULL, seq INTEGER NOT NULL, timestamp INTEGER NOT NULL, data BLOB NOT NULL, PRIMARY KEY (division, seq))",
+            "CREATE INDEX IF NOT EXISTS audit_log_timestamp ON audit_log (division, timestamp)",
+    };
+
+    private final Connection connection;
+
+    SQLiteDivisionStorage(@NotNull File database) throws IOException {
+        try {
+            Class.forName("org.sqlite.JDBC");
+            this.connection = DriverManager.getConnection("jdbc:sqlite:" + database.getAbsolutePath());
+
+            try (Statement st = connection.createStatement()) {
+                st.execute("PRAGMA journal_mode=WAL");
+                st.execute("PRAGMA synchronous=NORMAL");
+                for (String sql : SCHEMA) st.execute(sql);
+            }
+        } catch (ClassNotFoundException | SQLException e) {
+            throw new IOException("Could not open SQLite Database: " + database, e);
+        }
+    }
+
+    @NotNull
+    private static byte[] data(@NotNull ResultSet rs) throws SQLException, IOException {
+        int version = rs.getInt("version");
+        if (version > DivisionCodec.VERSION) throw new IOException("Unsupported Division Section Version " + version + ": " + rs.getString("division"));
+
+        return rs.getBytes("data");
+    }
+
+    @NotNull
+    @Override
+    public List<Division> loadAll() throws IOException {
+        return loadAll(false);
+    }
+
+    @NotNull
+    @Override
+    public List<Division> loadHeaders() throws IOException {
+        return loadAll(true);
+    }
+
+    @NotNull
+    private synchronized List<Division> loadAll(boolean headers) throws IOException {
+        long start = System.currentTimeMillis();
+        Map<UUID, byte[][]> sections = new LinkedHashMap<>();
+
+        try (Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery("SELECT division, section, data, version FROM sections ORDER BY division")) {
+            while (rs.next()) {
+                Division.Section section = Division.Section.byId(rs.getInt("section"));
+                if (section == null || (headers && Division.Section.BODY.contains(section))) continue;
+
+                sections.computeIfAbsent(UUID.fromString(rs.getString("division")), k -> new byte[Division.Section.values().length][])
+                        [section.ordinal()] = data(rs);
+            }
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+
+        List<Division> divisions = new ArrayList<>(sections.size());
+        int failed = 0;
+
+        for (Map.Entry<UUID, byte[][]> entry : sections.entrySet())
+            try {
+                divisions.add(decode(entry.getKey(), entry.getValue(), headers));
+            } catch (IOException | RuntimeException e) {
+                failed++;
+                DivConfig.getLogger().severe("Failed to load Division \"" + entry.getKey() + "\": " + e.getMessage());
+            }
+
+        DivConfig.getLogger().info("Loaded " + divisions.size() + " Divisions (" + failed + " failed) in " + (System.currentTimeMillis() - start) + "ms");
+        return divisions;
+    }
+
+    @Override
+    public synchronized boolean isEmpty() throws IOException {
+        try (Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery("SELECT 1 FROM divisions LIMIT 1")) {
+            return !rs.next();
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Nullable
+    @Override
+    public synchronized Division load(@NotNull UUID id) throws IOException {
+        byte[][] sections = new byte[Division.Section.values().length][];
+        boolean found = false;
+
+        try (PreparedStatement ps = connection.prepareStatement("SELECT division, section, data, version FROM sections WHERE division = ?")) {
+            ps.setString(1, id.toString());
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    Division.Section section = Division.Section.byId(rs.getInt("section"));
+                    if (section == null) continue;
+
+                    sections[section.ordinal()] = data(rs);
+                    found = true;
+                }
+            }
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+
+        return found ? decode(id, sections, false) : null;
+    }
+
+    @NotNull
+    private Division decode(@NotNull UUID id, @NotNull byte[][] sections, boolean headers) throws IOException {
+        File folder = new File(DivConfig.getDivisionsDirectory(), id.toString());
+        Division d = DivisionCodec.decode(folder, sections);
+
+        // Audit Log is stored by entry, and read when requested
+        if (headers) d.unloadBody();
+        return d;
+    }
+
+    @Override
+    public synchronized void save(@NotNull UUID id, @NotNull Map<Division.Section, byte[]> sections, @NotNull Set<Division.Section> changed) throws IOException {
+        String uid = id.toString();
+
+        try {
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement ps = connection.prepareStatement("INSERT OR REPLACE INTO sections (division, section, data, version) VALUES (?, ?, ?, ?)")) {
+                for (Division.Section section : changed) {
+                    if (section == Division.Section.AUDIT_LOG) continue;
+
+                    ps.setString(1, uid);
+                    ps.setInt(2, section.id);
+                    ps.setBytes(3, sections.get(section));
+                    ps.setInt(4, DivisionCodec.VERSION);
+                    ps.addBatch();
+                }
+
+                ps.executeBatch();
+            }
+
+            if (changed.contains(Division.Section.INFO) || changed.contains(Division.Section.OTHER))
+                saveDivision(uid, sections.get(Division.Section.INFO), sections.get(Division.Section.OTHER));
+
+            if (changed.contains(Division.Section.MEMBERS))
+                replace("members", uid, DivisionCodec.decodeUUIDs(sections.get(Division.Section.MEMBERS)));
+
+            if (changed.contains(Division.Section.BANS))
+                replace("bans", uid, DivisionCodec.decodeUUIDs(sections.get(Division.Section.BANS)));
+
+            if (changed.contains(Division.Section.AUDIT_LOG))
+                appendAuditLog(uid, sections.get(Division.Section.AUDIT_LOG));
+
+            connection.commit();
+        } catch (SQLException e) {
+            try {
+                connection.rollback();
+            } catch (SQLException e2) {
+                e.addSuppressed(e2);
+            }
+
+            throw new IOException(e);
+        } finally {
+            try {
+                connection.setAutoCommit(true);
+            } catch (SQLException e) {
+                DivConfig.print(e);
+            }
+        }
+    }
+
+    private void saveDivision(@NotNull String uid, @NotNull byte[] info, @NotNull byte[] other) throws SQLException, IOException {
+        UUID owner;
+        long creationDate;
+        try (DataInputStream is = new DataInputStream(new ByteArrayInputStream(info))) {
+            DivisionCodec.readUUID(is);
+            creationDate = is.readLong();
+            owner = DivisionCodec.readUUID(is);
+        }
+
+        String name;
+        double experience;
+        try (DataInputStream is = new DataInputStream(new ByteArrayInputStream(other))) {
+            name = DivisionCodec.readString(is);
+            experience = is.readDouble();
+        }
+
+        try (PreparedStatement ps = connection.prepareStatement("INSERT OR REPLACE INTO divisions (id, name, owner, creation_date, experience) VALUES (?, ?, ?, ?, ?)")) {
+            ps.setString(1, uid);
+            ps.setString(2, name);
+            ps.setString(3, owner.toString());
+            ps.setLong(4, creationDate);
+            ps.setDouble(5, experience);
+            ps.executeUpdate();
+        }
+    }
+
+    private void replace(@NotNull String table, @NotNull String uid, @NotNull List<UUID> players) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("DELETE FROM " + table + " WHERE division = ?")) {
+            ps.setString(1, uid);
+            ps.executeUpdate();
+        }
+
+        try (PreparedStatement ps = connection.prepareStatement("INSERT OR IGNORE INTO " + table + " (division, player) VALUES (?, ?)")) {
+            for (UUID player : players) {
+                ps.setString(1, uid);
+                ps.setString(2, player.toString());
+                ps.addBatch();
+            }
+
+            ps.executeBatch();
+        }
+    }
+
+    private void appendAuditLog(@NotNull String uid, @NotNull byte[] section) throws SQLException, IOException {
+        List<AuditLogEntry> entries = DivisionCodec.decodeAuditLog(section);
+        if (entries.isEmpty()) return;
+
+        int next;
+        try (PreparedStatement ps = connection.prepareStatement("SELECT COALESCE(MAX(seq) + 1, 0) FROM audit_log WHERE division = ?")) {
+            ps.setString(1, uid);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                next = rs.next() ? rs.getInt(1) : 0;
+            }
+        }
+
+        try (PreparedStatement ps = connection.prepareStatement("INSERT INTO audit_log (division, seq, timestamp, data) VALUES (?, ?, ?, ?)")) {
+            for (AuditLogEntry entry : entries) {
+                ps.setString(1, uid);
+                ps.setInt(2, next++);
+                ps.setLong(3, entry.getTimestamp().getTime());
+                ps.setBytes(4, DivisionCodec.encodeEntry(entry));
+                ps.addBatch();
+            }
+
+            ps.executeBatch();
+        }
+    }
+
+    @Override
+    public synchronized void delete(@NotNull UUID id) throws IOException {
+        try {
+            connection.setAutoCommit(false);
+
+            for (String table : new String[] { "sections", "members", "bans", "audit_log" })
+                try (PreparedStatement ps = connection.prepareStatement("DELETE FROM " + table + " WHERE division = ?")) {
+                    ps.setString(1, id.toString());
+                    ps.executeUpdate();
+                }
+
+            try (PreparedStatement ps = connection.prepareStatement("DELETE FROM divisions WHERE id = ?")) {
+                ps.setString(1, id.toString());
+                ps.executeUpdate();
+            }
+
+            connection.commit();
+        } catch (SQLException e) {
+            try {
+                connection.rollback();
+            } catch (SQLException e2) {
+                e.addSuppressed(e2);
+            }
+
+            throw new IOException(e);
+        } finally {
+            try {
+                connection.setAutoCommit(true);
+            } catch (SQLException e) {
+                DivConfig.print(e);
+            }
+        }
+    }
+
+    @NotNull
+    @Override
+    public synchronized Stream<AuditLogEntry> streamAuditLog(@NotNull UUID id) throws IOException {
+        return readAuditLog(id).stream().map(DivisionCodec::resolve);
+    }
+
+    @NotNull
+    @Override
+    public synchronized List<AuditLogEntry> getAuditLog(@NotNull UUID id, @NotNull Date from, @NotNull Date to, int limit) throws IOException {
+        List<AuditLogEntry> entries = new ArrayList<>();
+
+        try (PreparedStatement ps = connection.prepareStatement("SELECT data FROM audit_log WHERE division = ? AND timestamp BETWEEN ? AND ? ORDER BY seq LIMIT ?")) {
+            ps.setString(1, id.toString());
+            ps.setLong(2, from.getTime());
+            ps.setLong(3, to.getTime());
+            ps.setInt(4, limit);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    AuditLogEntry entry = DivisionCodec.decodeEntry(rs.getBytes("data"));
+                    if (entry != null) entries.add(DivisionCodec.resolve(entry));
+                }
+            }
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+
+        return entries;
+    }
+
+    @NotNull
+    private List<AuditLogEntry> readAuditLog(@NotNull UUID id) throws IOException {
+        List<AuditLogEntry> entries = new ArrayList<>();
+
+        try (PreparedStatement ps = connection.prepareStatement("SELECT data FROM audit_log WHERE division = ? ORDER BY seq")) {
+            ps.setString(1, id.toString());
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    AuditLogEntry entry = DivisionCodec.decodeEntry(rs.getBytes("data"));
+                    if (entry != null) entries.add(entry);
+                }
+            }
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+
+        return entries;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,48 @@
+package us.teaminceptus.divisions.api.events.division;
+
+import org.jetbrains.annotations.NotNull;
+import us.teaminceptus.divisions.api.division.Division;
+
+/**
+ * Called after a Division's level changes.
+ * @since 1.0.0
+ */
+public class DivisionLevelChangeEvent extends DivisionEvent {
+
+    private final int oldLevel;
+    private final int newLevel;
+
+    /**
+     * Constructs a DivisionLevelChangeEvent.
+     * @param division Division involved
+     * @param oldLevel Previous Division Level
+     * @param newLevel New Division Level
+     * @since 1.0.0
+     * @throws IllegalArgumentException if division is null
+     */
+    public DivisionLevelChangeEvent(@NotNull Division division, int oldLevel, int newLevel) throws IllegalArgumentException {
+        super(division);
+
+        this.oldLevel = oldLevel;
+        this.newLevel = newLevel;
+    }
+
+    /**
+     * Fetches the Division's previous level.
+     * @return Previous Division Level
+     * @since 1.0.0
+     */
+    public int getOldLevel() {
+        return oldLevel;
+    }
+
+    /**
+     * Fetches the Division's new level.
+     * @return New Division Level
+     * @since 1.0.0
+     */
+    public int getNewLevel() {
+        return newLevel;
+    }
+
+}
@@ -13,6 +13,10 @@ import us.teaminceptus.divisions.api.division.Division;
 import us.teaminceptus.divisions.api.events.player.PlayerMessageEvent;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * Represents a Divisions Player
@@ -20,6 +24,9 @@ import java.io.File;
  */
 public final class DivPlayer {
 
+    // Keyed by the online Player instance, which is released after the player quits
+    private static final Map<Player, String> LANGUAGES = Collections.synchronizedMap(new WeakHashMap<>());
+
     private final OfflinePlayer p;
     private final File file;
     private final FileConfiguration config;
@@ -109,4 +116,63 @@ public final class DivPlayer {
         d.broadcastMessage(prefix + event.getMessage());
     }
 
+    /**
+     * Fetches the value of a PlayerSetting for this player.
+     * @param setting Setting to fetch
+     * @return Value of setting, or its default value if not set
+     * @param <T> Type of setting
+     * @since 1.0.0
+     * @throws IllegalArgumentException if setting is null
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull
+    public <T> T getSetting(@NotNull PlayerSetting<T> setting) throws IllegalArgumentException {
+        if (setting == null) throw new IllegalArgumentException("Setting cannot be null");
+
+        T def = setting.getDefaultValue();
+        Object value = config.get(setting.getKey());
+
+        return def.getClass().isInstance(value) ? (T) value : def;
+    }
+
+    /**
+     * Sets the value of a PlayerSetting for this player.
+     * @param setting Setting to set
+     * @param value Value to set
+     * @param <T> Type of setting
+     * @since 1.0.0
+     * @throws IllegalArgumentException if setting or value is null, or value is not a possible value
+     */
+    public <T> void setSetting(@NotNull PlayerSetting<T> setting, @NotNull T value) throws IllegalArgumentException {
+        if (setting == null) throw new IllegalArgumentException("Setting cannot be null");
+        if (value == null) throw new IllegalArgumentException("Value cannot be null");
+        if (!setting.getPossibleValues().isEmpty() && !setting.getPossibleValues().contains(value))
+            throw new IllegalArgumentException("Invalid value for setting: " + value);
+
+        config.set(setting.getKey(), value);
+        if (setting == PlayerSetting.LANGUAGE && p.isOnline()) LANGUAGES.put(p.getPlayer(), (String) value);
+
+        try {
+            config.save(file);
+        } catch (IOException e) {
+            DivConfig.print(e);
+        }
+    }
+
+    /**
+     * Fetches a player's {@link PlayerSetting#LANGUAGE} setting, which is cached while the player is online.
+     * @param player Player to use
+     * @return Language Code, or an empty String if not set
+     * @since 1.0.0
+     * @throws IllegalArgumentException if player is null
+     */
+    @NotNull
+    public static String getLanguage(@NotNull OfflinePlayer player) throws IllegalArgumentException {
+        if (player == null) throw new IllegalArgumentException("Player cannot be null");
+        Player online = player.getPlayer();
+        if (online == null) return new DivPlayer(player).getSetting(PlayerSetting.LANGUAGE);
+
+        return LANGUAGES.computeIfAbsent(online, p -> new DivPlayer(p).getSetting(PlayerSetting.LANGUAGE));
+    }
+
 }
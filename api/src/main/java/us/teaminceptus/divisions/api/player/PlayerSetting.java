@@ -1,9 +1,12 @@
 package us.teaminceptus.divisions.api.player;
 
+import org.bukkit.OfflinePlayer;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import us.teaminceptus.divisions.api.DivConfig;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -21,6 +24,14 @@ public final class PlayerSetting<T> {
     public static final PlayerSetting<Boolean> NOTIFICATIONS =
             new PlayerSetting<>("settings.notifications", boolean.class, true);
 
+    /**
+     * The language messages are sent to the player in. An empty String uses the player's client language; every other
+     * value is a language the plugin has messages for.
+     * @since 1.0.0
+     */
+    public static final PlayerSetting<String> LANGUAGE =
+            new PlayerSetting<>("settings.language", String.class, "", "", "en", "es", "fr", "de", "pt", "ja", "zh");
+
     private final String displayKey;
     private final Class<T> type;
     private final T defaultValue;
@@ -54,5 +65,42 @@ public final class PlayerSetting<T> {
         return DivConfig.getConfiguration().get(displayKey);
     }
 
+    /**
+     * Fetches the display name of this PlayerSetting in the language of the given player.
+     * @param player Player to use
+     * @return Display Name
+     * @since 1.0.0
+     * @see DivConfig#getLocale(OfflinePlayer)
+     */
+    @NotNull
+    public String getDisplayName(@Nullable OfflinePlayer player) {
+        DivConfig config = DivConfig.getConfiguration();
+        return config.get(displayKey, config.getLocale(player));
+    }
+
+    /**
+     * Fetches the default value of this PlayerSetting.
+     * @return Default Value
+     * @since 1.0.0
+     */
+    @NotNull
+    public T getDefaultValue() {
+        return defaultValue;
+    }
+
+    /**
+     * Fetches an immutable list of the possible values of this PlayerSetting.
+     * @return Possible Values
+     * @since 1.0.0
+     */
+    @NotNull
+    public List<T> getPossibleValues() {
+        return Collections.unmodifiableList(possibleValues);
+    }
+
+    String getKey() {
+        return displayKey;
+    }
+
 
 }
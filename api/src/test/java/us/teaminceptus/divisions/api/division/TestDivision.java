@@ -16,4 +16,72 @@ public class TestDivision {
         }
     }
 
+    @Test
+    @DisplayName("Test Level Lookup")
+    public void testLevelLookup() {
+        double[] values = { -1, 0, 0.5, 1, 999, 1000, 1001, 1002, 5000, 123456.789, 1E9, 1E50, 1E300, Double.MAX_VALUE, Double.POSITIVE_INFINITY, Double.NaN };
+        for (double exp : values) Assertions.assertEquals(toLevel(exp), Division.toLevel(exp), "Experience " + exp);
+
+        for (int i = 0; i < 400; i++) {
+            double exp = Division.toExperience(i);
+            Assertions.assertEquals(toLevel(exp), Division.toLevel(exp), "Level " + i);
+            Assertions.assertEquals(toLevel(exp + 1), Division.toLevel(exp + 1), "Level " + i + " + 1");
+            Assertions.assertEquals(toLevel(exp - 1), Division.toLevel(exp - 1), "Level " + i + " - 1");
+        }
+    }
+
+    @Test
+    @DisplayName("Test Achievement Thresholds")
+    public void testAchievementThresholds() {
+        for (DivisionAchievement a : DivisionAchievement.values()) {
+            Assertions.assertTrue(a.getCounter().getAchievements().contains(a));
+            Assertions.assertEquals(0, a.getLevel(0));
+            Assertions.assertEquals(0, a.getLevel(Double.NaN));
+
+            for (int i = 1; i <= a.getMaxLevel(); i++) {
+                double threshold = a.getThreshold(i);
+                Assertions.assertEquals(i - 1, a.getLevel(threshold - 1), a + " below level " + i);
+                Assertions.assertEquals(i, a.getLevel(threshold), a + " at level " + i);
+            }
+
+            Assertions.assertEquals(a.getMaxLevel(), a.getLevel(Double.POSITIVE_INFINITY));
+        }
+    }
+
+    @Test
+    @DisplayName("Test Setting Registration")
+    public void testSettingRegistration() {
+        int count = DivSetting.count();
+        DivSetting<Boolean> setting = DivSetting.registerBoolean(5, "test-setting", "settings.division.test", false);
+
+        try {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> DivSetting.registerBoolean(5, "test-setting", "settings.division.test", false));
+
+            DivSetting<?>[] values = DivSetting.values();
+            Assertions.assertEquals(count + 1, values.length);
+            for (int i = 0; i < values.length; i++) {
+                Assertions.assertEquals(i, values[i].ordinal());
+                Assertions.assertSame(values[i], DivSetting.byKey(values[i].getKey()));
+            }
+
+            Assertions.assertSame(DivSetting.COLOR_CHAT, DivSetting.byKey("color-chat"));
+            Assertions.assertFalse(setting.isUnlocked(4));
+            Assertions.assertTrue(setting.isUnlocked(5));
+        } finally {
+            DivSetting.unregister(setting);
+        }
+
+        Assertions.assertEquals(count, DivSetting.count());
+        Assertions.assertNull(DivSetting.byKey("test-setting"));
+    }
+
+    // Previous implementation of Division#toLevel
+    private static int toLevel(double experience) {
+        if (experience < 0) return 0;
+
+        int level = 0;
+        while (Math.floor(Math.pow(level, 2.2 + (level / 3D)) + 1000 * level) < experience) level++;
+        return level;
+    }
+
 }
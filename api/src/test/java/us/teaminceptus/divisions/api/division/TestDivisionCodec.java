@@ -0,0 +1,235 @@
+package us.teaminceptus.divisions.api.division;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import us.teaminceptus.divisions.api.DivConfig;
+import us.teaminceptus.divisions.api.division.logs.AuditLogEntry;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+public class TestDivisionCodec {
+
+    private static final Map<UUID, OfflinePlayer> PLAYERS = new ConcurrentHashMap<>();
+    private static final Map<String, World> WORLDS = new ConcurrentHashMap<>();
+
+    private static final File FOLDER = new File(System.getProperty("java.io.tmpdir"), "divisions-codec");
+
+    @BeforeAll
+    public static void setupServer() {
+        if (Bukkit.getServer() != null) return;
+
+        // Keep the configuration used without a server
+        DivConfig config = DivConfig.getConfiguration();
+        Plugin plugin = Mockito.mock(Plugin.class, Mockito.withSettings()
+                .extraInterfaces(DivConfig.class)
+                .defaultAnswer(AdditionalAnswers.delegatesTo(config)));
+
+        PluginManager manager = Mockito.mock(PluginManager.class);
+        Mockito.when(manager.getPlugin("Divisions")).thenReturn(plugin);
+
+        Server server = Mockito.mock(Server.class);
+        Mockito.when(server.getLogger()).thenReturn(Logger.getLogger("Divisions"));
+        Mockito.when(server.getPluginManager()).thenReturn(manager);
+        Mockito.when(server.getOfflinePlayer(ArgumentMatchers.any(UUID.class))).thenAnswer(inv -> player(inv.getArgument(0)));
+        Mockito.when(server.getWorld(ArgumentMatchers.anyString())).thenAnswer(inv -> WORLDS.get((String) inv.getArgument(0)));
+
+        Bukkit.setServer(server);
+    }
+
+    private static OfflinePlayer player(UUID id) {
+        return PLAYERS.computeIfAbsent(id, k -> {
+            OfflinePlayer p = Mockito.mock(OfflinePlayer.class);
+            Mockito.when(p.getUniqueId()).thenReturn(k);
+            return p;
+        });
+    }
+
+    private static World world(String name) {
+        World w = Mockito.mock(World.class);
+        Mockito.when(w.getName()).thenReturn(name);
+        return w;
+    }
+
+    private static Division division() {
+        return new Division(FOLDER, UUID.randomUUID(), System.currentTimeMillis(), player(UUID.randomUUID()));
+    }
+
+    private static byte[][] encode(Division d) {
+        byte[][] sections = new byte[Division.Section.values().length][];
+        for (Division.Section section : Division.Section.values()) sections[section.ordinal()] = DivisionCodec.encode(d, section);
+
+        return sections;
+    }
+
+    // Decodes a Division, checking that it is encoded back to the same bytes
+    private static Division roundTrip(Division d) throws IOException {
+        byte[][] sections = encode(d);
+        Division decoded = DivisionCodec.decode(FOLDER, sections);
+
+        for (Division.Section section : Division.Section.values())
+            Assertions.assertArrayEquals(sections[section.ordinal()], DivisionCodec.encode(decoded, section));
+
+        return decoded;
+    }
+
+    @Test
+    @DisplayName("Test Info Round Trip")
+    public void testInfo() throws IOException {
+        Division d = division();
+        Division decoded = roundTrip(d);
+
+        Assertions.assertEquals(d.id, decoded.id);
+        Assertions.assertEquals(d.creationDate, decoded.creationDate);
+        Assertions.assertSame(d.owner, decoded.owner);
+    }
+
+    @Test
+    @DisplayName("Test Members Round Trip")
+    public void testMembers() throws IOException {
+        Division d = division();
+        d.members.add(d.owner);
+        d.members.add(player(UUID.randomUUID()));
+
+        Assertions.assertEquals(d.members, roundTrip(d).members);
+    }
+
+    @Test
+    @DisplayName("Test Bans Round Trip")
+    public void testBans() throws IOException {
+        Division d = division();
+        d.banList.add(UUID.randomUUID());
+        d.banList.add(UUID.randomUUID());
+
+        Assertions.assertEquals(d.banList, roundTrip(d).banList);
+    }
+
+    @Test
+    @DisplayName("Test Achievements Round Trip")
+    public void testAchievements() throws IOException {
+        Division d = division();
+        d.achievements.put(DivisionAchievement.POPULATION_GROWTH, 2);
+
+        Division decoded = roundTrip(d);
+        Assertions.assertEquals(d.achievements, decoded.achievements);
+    }
+
+    @Test
+    @DisplayName("Test Audit Log Round Trip")
+    public void testAuditLog() throws IOException {
+        Division d = division();
+        OfflinePlayer member = player(UUID.randomUUID());
+        UUID id = UUID.randomUUID();
+
+        d.auditLog.add(new AuditLogEntry(new Date(1000), AuditLogEntry.Action.CREATED, d, d.owner));
+        d.auditLog.add(new AuditLogEntry(new Date(2000), AuditLogEntry.Action.MEMBER_JOINED, member));
+        d.auditLog.add(new AuditLogEntry(new Date(3000), AuditLogEntry.Action.MEMBER_KICKED, "Player", d.owner));
+        d.auditLog.add(new AuditLogEntry(new Date(4000), AuditLogEntry.Action.RENAMED, id));
+
+        // Divisions are resolved once registered, so the reference is written back unchanged
+        Division decoded = roundTrip(d);
+        Assertions.assertEquals(d.auditLog, decoded.auditLog);
+        Assertions.assertSame(member, decoded.auditLog.get(1).getData());
+        Assertions.assertEquals("Player", decoded.auditLog.get(2).getData());
+        Assertions.assertEquals(id, decoded.auditLog.get(3).getData());
+
+        DivisionRegistry.register(d);
+        try {
+            Assertions.assertSame(d, DivisionCodec.resolve(decoded.auditLog.get(0)).getData());
+        } finally {
+            DivisionRegistry.unregister(d);
+        }
+
+        // Divisions that no longer exist are resolved as their ID
+        Assertions.assertEquals(d.id, DivisionCodec.resolve(roundTrip(d).auditLog.get(0)).getData());
+    }
+
+    @Test
+    @DisplayName("Test Settings Round Trip")
+    public void testSettings() throws IOException {
+        Division d = division();
+        d.setSettingValue(DivSetting.COLOR_CHAT, false);
+        d.unknownSettings.put("codec-unknown-setting", 5L);
+
+        Division decoded = roundTrip(d);
+        Assertions.assertEquals(false, decoded.getSettingValue(DivSetting.COLOR_CHAT));
+        Assertions.assertEquals(d.unknownSettings, decoded.unknownSettings);
+    }
+
+    @Test
+    @DisplayName("Test Other Round Trip")
+    public void testOther() throws IOException {
+        World w = world("codec-world");
+        WORLDS.put("codec-world", w);
+
+        Division d = division();
+        d.name = "Codec";
+        d.experience = 1234.5;
+        d.prefix = "CDC";
+        d.tagline = "Round Trip";
+        d.home = new Location(w, 1, 2, 3, 4F, 5F);
+
+        Division decoded = roundTrip(d);
+        Assertions.assertEquals(d.name, decoded.name);
+        Assertions.assertEquals(d.experience, decoded.experience);
+        Assertions.assertEquals(d.prefix, decoded.prefix);
+        Assertions.assertEquals(d.tagline, decoded.tagline);
+
+        Location home = decoded.getHome();
+        Assertions.assertNotNull(home);
+        Assertions.assertSame(w, home.getWorld());
+        Assertions.assertEquals(1D, home.getX());
+        Assertions.assertEquals(2D, home.getY());
+        Assertions.assertEquals(3D, home.getZ());
+        Assertions.assertEquals(4D, home.getYaw());
+        Assertions.assertEquals(5D, home.getPitch());
+    }
+
+    @Test
+    @DisplayName("Test Unloaded Home Round Trip")
+    public void testUnloadedHome() throws IOException {
+        World w = world("codec-unloaded");
+        WORLDS.put("codec-unloaded", w);
+
+        Division d = division();
+        d.home = new Location(w, 1, 2, 3);
+        byte[][] sections = encode(d);
+
+        WORLDS.remove("codec-unloaded");
+        Division decoded = DivisionCodec.decode(FOLDER, sections);
+        Assertions.assertNull(decoded.getHome());
+        Assertions.assertArrayEquals(sections[Division.Section.OTHER.ordinal()], DivisionCodec.encode(decoded, Division.Section.OTHER));
+
+        WORLDS.put("codec-unloaded", w);
+        Assertions.assertNotNull(decoded.getHome());
+        Assertions.assertSame(w, decoded.getHome().getWorld());
+    }
+
+    @Test
+    @DisplayName("Test Socials Round Trip")
+    public void testSocials() throws IOException {
+        Division d = division();
+        d.socialMedia.put(SocialMedia.GITHUB, "https://github.com/Team-Inceptus");
+        d.socialMedia.put(SocialMedia.DISCORD, "https://discord.gg/invite");
+
+        Assertions.assertEquals(d.socialMedia, roundTrip(d).socialMedia);
+    }
+
+}
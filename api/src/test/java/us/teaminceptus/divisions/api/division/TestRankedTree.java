@@ -0,0 +1,52 @@
+package us.teaminceptus.divisions.api.division;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+public class TestRankedTree {
+
+    @Test
+    @DisplayName("Test Ranked Tree")
+    public void testRankedTree() {
+        Comparator<Integer> order = Comparator.reverseOrder();
+        RankedTree<Integer> tree = new RankedTree<>(order);
+        List<Integer> expected = new ArrayList<>();
+        Random r = new Random(215);
+
+        for (int i = 0; i < 5000; i++) {
+            int value = r.nextInt(1000);
+
+            if (expected.contains(value)) {
+                Assertions.assertTrue(tree.remove(value));
+                expected.remove((Integer) value);
+            } else {
+                tree.add(value);
+                expected.add(value);
+            }
+
+            if (i % 250 != 0) continue;
+            expected.sort(order);
+
+            Assertions.assertEquals(expected.size(), tree.size());
+            Assertions.assertEquals(expected, tree.range(0, expected.size()));
+            Assertions.assertEquals(expected.subList(0, Math.min(10, expected.size())), tree.range(0, 10));
+
+            for (int j = 0; j < expected.size(); j++) {
+                Assertions.assertEquals(j, tree.indexOf(expected.get(j)));
+                Assertions.assertEquals(expected.get(j), tree.get(j));
+            }
+        }
+
+        Assertions.assertEquals(-1, tree.indexOf(-1));
+        Assertions.assertFalse(tree.remove(-1));
+        Assertions.assertNull(tree.get(tree.size()));
+        Assertions.assertTrue(tree.range(tree.size(), 10).isEmpty());
+    }
+
+}
@@ -1,22 +1,29 @@
 package us.teaminceptus.divisions.wrapper.v1_13_R2;
 
-import com.google.common.collect.ImmutableMap;
 import org.bukkit.craftbukkit.v1_13_R2.inventory.CraftInventoryCustom;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import us.teaminceptus.divisions.wrapper.AttributeKey;
 import us.teaminceptus.divisions.wrapper.DivInventory;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 public final class DivInventory1_13_R2 extends CraftInventoryCustom implements DivInventory {
 
     private final String id;
     private final Map<String, Object> attributes = new HashMap<>();
+    private final Map<String, Object> attributesView = Collections.unmodifiableMap(attributes);
+    private final BiConsumer<DivInventory, InventoryClickEvent>[] actions;
 
+    @SuppressWarnings("unchecked")
     public DivInventory1_13_R2(String key, int size, String title) {
         super(null, size, title);
         this.id = key;
+        this.actions = new BiConsumer[size];
 
-        setAttribute("_name", title);
+        setAttribute(AttributeKey.NAME, title);
     }
 
     @Override
@@ -26,7 +33,7 @@ public final class DivInventory1_13_R2 extends CraftInventoryCustom implements D
 
     @Override
     public Map<String, Object> getAllAttributes() {
-        return ImmutableMap.copyOf(attributes);
+        return attributesView;
     }
 
     @Override
@@ -39,4 +46,14 @@ public final class DivInventory1_13_R2 extends CraftInventoryCustom implements D
         attributes.remove(key);
     }
 
+    @Override
+    public BiConsumer<DivInventory, InventoryClickEvent> getAction(int slot) {
+        return slot < 0 || slot >= actions.length ? null : actions[slot];
+    }
+
+    @Override
+    public void setAction(int slot, BiConsumer<DivInventory, InventoryClickEvent> action) {
+        actions[slot] = action;
+    }
+
 }
@@ -11,123 +11,92 @@ import java.util.UUID;
 
 public final class NBTWrapper1_13_R2 extends NBTWrapper {
 
+    private ItemStack nmsitem;
+    private NBTTagCompound tag;
+    private NBTTagCompound divisions;
+
     public NBTWrapper1_13_R2(org.bukkit.inventory.ItemStack item) {
         super(item);
     }
-    
-    @Override
-    public String getString(String key) {
-        ItemStack nmsitem = CraftItemStack.asNMSCopy(item);
-        NBTTagCompound tag = nmsitem.getOrCreateTag();
-        NBTTagCompound divisions = tag.getCompound(ROOT);
 
-        return divisions.getString(key);
+    private NBTTagCompound divisions() {
+        if (divisions == null) {
+            nmsitem = CraftItemStack.asNMSCopy(item);
+            tag = nmsitem.getOrCreateTag();
+            divisions = tag.getCompound(ROOT);
+        }
+
+        return divisions;
     }
 
     @Override
-    public void set(String key, String value) {
-        ItemStack nmsitem = CraftItemStack.asNMSCopy(item);
-        NBTTagCompound tag = nmsitem.getOrCreateTag();
-        NBTTagCompound divisions = tag.getCompound(ROOT);
+    protected void save() {
+        if (divisions == null) return;
 
-        divisions.setString(key, value);
         tag.set(ROOT, divisions);
         nmsitem.setTag(tag);
         this.item = CraftItemStack.asBukkitCopy(nmsitem);
     }
+    
+    @Override
+    public String getString(String key) {
+        return divisions().getString(key);
+    }
 
     @Override
-    public boolean getBoolean(String key) {
-        ItemStack nmsitem = CraftItemStack.asNMSCopy(item);
-        NBTTagCompound tag = nmsitem.getOrCreateTag();
-        NBTTagCompound divisions = tag.getCompound(ROOT);
+    public void set(String key, String value) {
+        divisions().setString(key, value);
+        changed();
+    }
 
-        return divisions.getBoolean(key);
+    @Override
+    public boolean getBoolean(String key) {
+        return divisions().getBoolean(key);
     }
 
     @Override
     public void set(String key, boolean value) {
-        ItemStack nmsitem = CraftItemStack.asNMSCopy(item);
-        NBTTagCompound tag = nmsitem.getOrCreateTag();
-        NBTTagCompound divisions = tag.getCompound(ROOT);
-
-        divisions.setBoolean(key, value);
-        tag.set(ROOT, divisions);
-        nmsitem.setTag(tag);
-        this.item = CraftItemStack.asBukkitCopy(nmsitem);
+        divisions().setBoolean(key, value);
+        changed();
     }
 
     @Override
     public int getInt(String key) {
-        ItemStack nmsitem = CraftItemStack.asNMSCopy(item);
-        NBTTagCompound tag = nmsitem.getOrCreateTag();
-        NBTTagCompound divisions = tag.getCompound(ROOT);
-
-        return divisions.getInt(key);
+        return divisions().getInt(key);
     }
 
     @Override
     public void set(String key, int value) {
-        ItemStack nmsitem = CraftItemStack.asNMSCopy(item);
-        NBTTagCompound tag = nmsitem.getOrCreateTag();
-        NBTTagCompound divisions = tag.getCompound(ROOT);
-
-        divisions.setInt(key, value);
-        tag.set(ROOT, divisions);
-        nmsitem.setTag(tag);
-        this.item = CraftItemStack.asBukkitCopy(nmsitem);
+        divisions().setInt(key, value);
+        changed();
     }
 
     @Override
     public double getDouble(String key) {
-        ItemStack nmsitem = CraftItemStack.asNMSCopy(item);
-        NBTTagCompound tag = nmsitem.getOrCreateTag();
-        NBTTagCompound divisions = tag.getCompound(ROOT);
-
-        return divisions.getDouble(key);
+        return divisions().getDouble(key);
     }
 
     @Override
     public void set(String key, double value) {
-        ItemStack nmsitem = CraftItemStack.asNMSCopy(item);
-        NBTTagCompound tag = nmsitem.getOrCreateTag();
-        NBTTagCompound divisions = tag.getCompound(ROOT);
-
-        divisions.setDouble(key, value);
-        tag.set(ROOT, divisions);
-        nmsitem.setTag(tag);
-        this.item = CraftItemStack.asBukkitCopy(nmsitem);
+        divisions().setDouble(key, value);
+        changed();
     }
 
     @Override
     public UUID getUUID(String key) {
-        ItemStack nmsitem = CraftItemStack.asNMSCopy(item);
-        NBTTagCompound tag = nmsitem.getOrCreateTag();
-        NBTTagCompound divisions = tag.getCompound(ROOT);
-
-        return divisions.a(key);
+        return divisions().a(key);
     }
 
     @Override
     public void set(String key, UUID value) {
-        ItemStack nmsitem = CraftItemStack.asNMSCopy(item);
-        NBTTagCompound tag = nmsitem.getOrCreateTag();
-        NBTTagCompound divisions = tag.getCompound(ROOT);
-
-        divisions.a(key, value);
-        tag.set(ROOT, divisions);
-        nmsitem.setTag(tag);
-        this.item = CraftItemStack.asBukkitCopy(nmsitem);
+        divisions().a(key, value);
+        changed();
     }
 
     @Override
     public Class<?> getClass(String key) {
-        ItemStack nmsitem = CraftItemStack.asNMSCopy(item);
-        NBTTagCompound tag = nmsitem.getOrCreateTag();
-        NBTTagCompound divisions = tag.getCompound(ROOT);
-
         try {
-            return Class.forName(new String(divisions.getByteArray(key)));
+            return Class.forName(new String(divisions().getByteArray(key)));
         } catch (ClassNotFoundException e) {
             DivConfig.print(e);
             return null;
@@ -136,35 +105,19 @@ public final class NBTWrapper1_13_R2 extends NBTWrapper {
 
     @Override
     public void set(String key, @NotNull Class<?> clazz) {
-        ItemStack nmsitem = CraftItemStack.asNMSCopy(item);
-        NBTTagCompound tag = nmsitem.getOrCreateTag();
-        NBTTagCompound divisions = tag.getCompound(ROOT);
-
-        divisions.setByteArray(key, clazz.getName().getBytes());
-        tag.set(ROOT, divisions);
-        nmsitem.setTag(tag);
-        this.item = CraftItemStack.asBukkitCopy(nmsitem);
+        divisions().setByteArray(key, clazz.getName().getBytes());
+        changed();
     }
 
     @Override
     public float getFloat(String key) {
-        ItemStack nmsitem = CraftItemStack.asNMSCopy(item);
-        NBTTagCompound tag = nmsitem.getOrCreateTag();
-        NBTTagCompound divisions = tag.getCompound(ROOT);
-
-        return divisions.getFloat(key);
+        return divisions().getFloat(key);
     }
 
     @Override
     public void set(String key, float value) {
-        ItemStack nmsitem = CraftItemStack.asNMSCopy(item);
-        NBTTagCompound tag = nmsitem.getOrCreateTag();
-        NBTTagCompound divisions = tag.getCompound(ROOT);
-
-        divisions.setFloat(key, value);
-        tag.set(ROOT, divisions);
-        nmsitem.setTag(tag);
-        this.item = CraftItemStack.asBukkitCopy(nmsitem);
+        divisions().setFloat(key, value);
+        changed();
     }
 
 }
@@ -3,8 +3,8 @@ package us.teaminceptus.divisions.wrapper;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import us.teaminceptus.divisions.wrapper.nbt.NBTWrapper;
+import us.teaminceptus.divisions.wrapper.nbt.PersistentNBTWrapper;
 import us.teaminceptus.divisions.wrapper.v1_15_R1.DivInventory1_15_R1;
-import us.teaminceptus.divisions.wrapper.v1_15_R1.NBTWrapper1_15_R1;
 
 public final class Wrapper1_15_R1 implements Wrapper {
 
@@ -16,7 +16,7 @@ public final class Wrapper1_15_R1 implements Wrapper {
 
     @Override
     public NBTWrapper createNBTWrapper(@NotNull ItemStack item) {
-        return new NBTWrapper1_15_R1(item);
+        return new PersistentNBTWrapper(item);
     }
 
 }
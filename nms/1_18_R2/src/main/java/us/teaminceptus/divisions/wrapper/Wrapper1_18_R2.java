@@ -3,8 +3,8 @@ package us.teaminceptus.divisions.wrapper;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import us.teaminceptus.divisions.wrapper.nbt.NBTWrapper;
+import us.teaminceptus.divisions.wrapper.nbt.PersistentNBTWrapper;
 import us.teaminceptus.divisions.wrapper.v1_18_R2.DivInventory1_18_R2;
-import us.teaminceptus.divisions.wrapper.v1_18_R2.NBTWrapper1_18_R2;
 
 public final class Wrapper1_18_R2 implements Wrapper {
 
@@ -16,7 +16,7 @@ public final class Wrapper1_18_R2 implements Wrapper {
 
     @Override
     public NBTWrapper createNBTWrapper(@NotNull ItemStack item) {
-        return new NBTWrapper1_18_R2(item);
+        return new PersistentNBTWrapper(item);
     }
 
 }
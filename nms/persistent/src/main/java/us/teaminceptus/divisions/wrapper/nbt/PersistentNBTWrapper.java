@@ -0,0 +1,178 @@
+package us.teaminceptus.divisions.wrapper.nbt;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.NotNull;
+import us.teaminceptus.divisions.api.DivConfig;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * NBTWrapper stored in an item's PersistentDataContainer, for 1.14 and above. Reads and writes use a single copy of
+ * the ItemMeta, and like the NMS wrappers, changes are saved to a copy of the item instead of the original.
+ */
+public final class PersistentNBTWrapper extends NBTWrapper {
+
+    private static final Map<String, NamespacedKey> KEYS = new ConcurrentHashMap<>();
+
+    private ItemMeta meta;
+
+    public PersistentNBTWrapper(ItemStack item) {
+        super(item);
+    }
+
+    private static NamespacedKey key(String key) {
+        return KEYS.computeIfAbsent(key, k -> new NamespacedKey(DivConfig.getPlugin(), k.toLowerCase(Locale.ROOT)));
+    }
+
+    // Null for items without meta, such as air
+    private PersistentDataContainer container() {
+        if (meta == null) meta = item.getItemMeta();
+        return meta == null ? null : meta.getPersistentDataContainer();
+    }
+
+    @Override
+    protected void save() {
+        if (meta == null) return;
+
+        this.item = item.clone();
+        item.setItemMeta(meta);
+    }
+
+    @Override
+    public String getString(String key) {
+        PersistentDataContainer container = container();
+        if (container == null) return "";
+
+        return container.getOrDefault(key(key), PersistentDataType.STRING, "");
+    }
+
+    @Override
+    public void set(String key, String value) {
+        PersistentDataContainer container = container();
+        if (container == null) return;
+
+        container.set(key(key), PersistentDataType.STRING, value);
+        changed();
+    }
+
+    @Override
+    public boolean getBoolean(String key) {
+        PersistentDataContainer container = container();
+        if (container == null) return false;
+
+        return container.getOrDefault(key(key), PersistentDataType.BYTE, (byte) 0) != 0;
+    }
+
+    @Override
+    public void set(String key, boolean value) {
+        PersistentDataContainer container = container();
+        if (container == null) return;
+
+        container.set(key(key), PersistentDataType.BYTE, (byte) (value ? 1 : 0));
+        changed();
+    }
+
+    @Override
+    public int getInt(String key) {
+        PersistentDataContainer container = container();
+        if (container == null) return 0;
+
+        return container.getOrDefault(key(key), PersistentDataType.INTEGER, 0);
+    }
+
+    @Override
+    public void set(String key, int value) {
+        PersistentDataContainer container = container();
+        if (container == null) return;
+
+        container.set(key(key), PersistentDataType.INTEGER, value);
+        changed();
+    }
+
+    @Override
+    public double getDouble(String key) {
+        PersistentDataContainer container = container();
+        if (container == null) return 0D;
+
+        return container.getOrDefault(key(key), PersistentDataType.DOUBLE, 0D);
+    }
+
+    @Override
+    public void set(String key, double value) {
+        PersistentDataContainer container = container();
+        if (container == null) return;
+
+        container.set(key(key), PersistentDataType.DOUBLE, value);
+        changed();
+    }
+
+    @Override
+    public UUID getUUID(String key) {
+        PersistentDataContainer container = container();
+        if (container == null) return null;
+
+        long[] bits = container.get(key(key), PersistentDataType.LONG_ARRAY);
+        if (bits == null || bits.length != 2) return null;
+
+        return new UUID(bits[0], bits[1]);
+    }
+
+    @Override
+    public void set(String key, UUID value) {
+        PersistentDataContainer container = container();
+        if (container == null) return;
+
+        container.set(key(key), PersistentDataType.LONG_ARRAY, new long[] { value.getMostSignificantBits(), value.getLeastSignificantBits() });
+        changed();
+    }
+
+    @Override
+    public Class<?> getClass(String key) {
+        PersistentDataContainer container = container();
+        if (container == null) return null;
+
+        String name = container.get(key(key), PersistentDataType.STRING);
+        if (name == null) return null;
+
+        try {
+            return Class.forName(name);
+        } catch (ClassNotFoundException e) {
+            DivConfig.print(e);
+            return null;
+        }
+    }
+
+    @Override
+    public void set(String key, @NotNull Class<?> clazz) {
+        PersistentDataContainer container = container();
+        if (container == null) return;
+
+        container.set(key(key), PersistentDataType.STRING, clazz.getName());
+        changed();
+    }
+
+    @Override
+    public float getFloat(String key) {
+        PersistentDataContainer container = container();
+        if (container == null) return 0F;
+
+        return container.getOrDefault(key(key), PersistentDataType.FLOAT, 0F);
+    }
+
+    @Override
+    public void set(String key, float value) {
+        PersistentDataContainer container = container();
+        if (container == null) return;
+
+        container.set(key(key), PersistentDataType.FLOAT, value);
+        changed();
+    }
+
+}
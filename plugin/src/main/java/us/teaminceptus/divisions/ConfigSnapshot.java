@@ -0,0 +1,40 @@
+package us.teaminceptus.divisions;
+
+import org.bukkit.configuration.file.FileConfiguration;
+import org.jetbrains.annotations.NotNull;
+import us.teaminceptus.divisions.api.division.Division;
+
+final class ConfigSnapshot {
+
+    final String language;
+    final int maxDivisionSize;
+    final int saveInterval;
+    final int experienceInterval;
+    final int chatHistorySize;
+
+    final boolean lazyLoading;
+    final int maxLoadedDivisions;
+    final int divisionIdleTime;
+
+    final String storageType;
+
+    private ConfigSnapshot(FileConfiguration config) {
+        this.language = config.getString("language", MessageCatalog.DEFAULT_LANGUAGE);
+        this.maxDivisionSize = Math.max(10, Math.min(config.getInt("divisions.max-players", Division.MAX_PLAYERS), Division.MAX_PLAYERS));
+        this.saveInterval = Math.max(1, config.getInt("divisions.save-interval", 30));
+        this.experienceInterval = Math.max(1, config.getInt("divisions.experience-interval", 20));
+        this.chatHistorySize = Math.max(0, config.getInt("divisions.chat-history", 100));
+
+        this.lazyLoading = config.getBoolean("divisions.lazy-loading.enabled", false);
+        this.maxLoadedDivisions = Math.max(1, config.getInt("divisions.lazy-loading.max-loaded", 1000));
+        this.divisionIdleTime = Math.max(1, config.getInt("divisions.lazy-loading.idle-time", 600));
+
+        this.storageType = config.getString("storage.type", "file");
+    }
+
+    @NotNull
+    static ConfigSnapshot of(@NotNull FileConfiguration config) {
+        return new ConfigSnapshot(config);
+    }
+
+}
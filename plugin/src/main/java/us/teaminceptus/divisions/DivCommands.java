@@ -1,13 +1,25 @@
 package us.teaminceptus.divisions;
 
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerCommandPreprocessEvent;
+import org.bukkit.event.server.ServerCommandEvent;
 import revxrsal.commands.annotation.Command;
 import revxrsal.commands.annotation.Description;
 import revxrsal.commands.annotation.Subcommand;
 import revxrsal.commands.annotation.Usage;
 import revxrsal.commands.bukkit.BukkitCommandHandler;
+import revxrsal.commands.bukkit.annotation.CommandPermission;
+import us.teaminceptus.divisions.api.DivConfig;
+import us.teaminceptus.divisions.api.division.Division;
 
-public final class DivCommands {
+import java.util.Locale;
+
+public final class DivCommands implements Listener {
 
     private final Divisions plugin;
 
@@ -22,8 +34,25 @@ public final class DivCommands {
         handler.register(this);
         handler.register(new DivisionCommands());
         handler.registerBrigadier();
-        
-        handler.setLocale(plugin.getLocale());
+
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+    }
+
+    // Lamp translates with one Locale, so it is set to the sender's before their command runs
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onCommand(PlayerCommandPreprocessEvent e) {
+        handler.setLocale(getLocale(e.getPlayer()));
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onCommand(ServerCommandEvent e) {
+        handler.setLocale(getLocale(e.getSender()));
+    }
+
+    private static Locale getLocale(CommandSender sender) {
+        DivConfig config = DivConfig.getConfiguration();
+        return sender instanceof Player ? config.getLocale((Player) sender) : config.getLocale();
     }
 
     // Division Commmands
@@ -38,6 +67,25 @@ public final class DivCommands {
             // TODO
         }
 
+        @Subcommand("reload")
+        @CommandPermission("divisions.admin.reload")
+        public void reload(CommandSender sender) {
+            Division.ReloadResult result = Division.reload();
+            DivConfig config = DivConfig.getConfiguration();
+            Locale locale = getLocale(sender);
+
+            sender.sendMessage(config.get("plugin.prefix", locale) + " " + config.format("command.reload.success", locale, result.getAdded(), result.getUpdated(), result.getRemoved()));
+        }
+
+        @Subcommand("admin reload")
+        @CommandPermission("divisions.admin.config")
+        public void adminReload(CommandSender sender) {
+            Divisions plugin = (Divisions) DivConfig.getPlugin();
+            plugin.reload();
+
+            sender.sendMessage(plugin.getMessage("command.admin.reload.success", getLocale(sender)));
+        }
+
     }
 
 
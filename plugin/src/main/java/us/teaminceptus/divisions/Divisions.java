@@ -4,31 +4,36 @@ import org.bstats.bukkit.Metrics;
 import org.bstats.charts.SimplePie;
 import org.bstats.charts.SingleLineChart;
 import org.bukkit.Bukkit;
-import org.bukkit.ChatColor;
-import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.serialization.ConfigurationSerializable;
 import org.bukkit.configuration.serialization.ConfigurationSerialization;
 import org.bukkit.plugin.java.JavaPlugin;
 import us.teaminceptus.divisions.api.DivConfig;
 import us.teaminceptus.divisions.api.division.Division;
+import us.teaminceptus.divisions.api.division.DivisionLogWriter;
+import us.teaminceptus.divisions.api.division.DivisionSaver;
+import us.teaminceptus.divisions.api.division.DivisionStorage;
+import us.teaminceptus.divisions.api.division.ExperienceAccumulator;
 import us.teaminceptus.divisions.api.division.logs.AuditLogEntry;
 import us.teaminceptus.divisions.events.DivInventoryManager;
 import us.teaminceptus.divisions.util.inventory.ItemBuilder;
 
+import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.Collections;
 import java.util.List;
-import java.util.Properties;
+import java.util.Locale;
 import java.util.logging.Logger;
 
-import static us.teaminceptus.divisions.wrapper.Wrapper.isCompatible;
+import static us.teaminceptus.divisions.wrapper.Wrapper.getServerVersion;
+import static us.teaminceptus.divisions.wrapper.Wrapper.getWrapper;
 import static us.teaminceptus.divisions.wrapper.Wrapper.isOutdatedSubversion;
 
 public final class Divisions extends JavaPlugin implements DivConfig {
 
     private static Logger LOGGER;
-    private static FileConfiguration config;
+    private static volatile ConfigSnapshot config;
+    private static DivisionStorage storage;
+    private static MessageCatalog messages;
 
     private boolean checkCompatible() {
         if (isOutdatedSubversion()) {
@@ -39,8 +44,8 @@ public final class Divisions extends JavaPlugin implements DivConfig {
             return false;
         }
 
-        if (!isCompatible()) {
-            LOGGER.severe("** This version of Minecraft is not compatible with Divisions! **");
+        if (getWrapper() == null) {
+            LOGGER.severe("** This version of Minecraft (" + getServerVersion() + ") is not compatible with Divisions! **");
             LOGGER.severe("** Please update the Divisions plugin or Minecraft to the latest version. **");
 
             Bukkit.getPluginManager().disablePlugin(this);
@@ -50,10 +55,49 @@ public final class Divisions extends JavaPlugin implements DivConfig {
         return true;
     }
 
+    private void loadConfig() {
+        config = ConfigSnapshot.of(getConfig());
+    }
+
+    void loadMessages() {
+        messages = MessageCatalog.load();
+        if (!messages.isSupported(getLanguage()))
+            getLogger().warning("Unknown Language \"" + getLanguage() + "\", defaulting to English");
+    }
+
+    void reload() {
+        reloadConfig();
+        loadConfig();
+        loadMessages();
+
+        DivConfig.callReloadListeners();
+    }
+
+    private DivisionStorage loadStorage() {
+        DivisionStorage files = DivisionStorage.file(DivConfig.getDivisionsDirectory());
+        if (!config.storageType.equalsIgnoreCase("sqlite")) return files;
+
+        try {
+            DivisionStorage sqlite = DivisionStorage.sqlite(new File(getDataFolder(), "divisions.db"));
+
+            if (sqlite.isEmpty()) {
+                int imported = sqlite.importFrom(files);
+                if (imported > 0) getLogger().info("Imported " + imported + " Divisions into SQLite...");
+            }
+
+            return sqlite;
+        } catch (IOException e) {
+            getLogger().severe("Failed to open SQLite Storage, falling back to Files!");
+            DivConfig.print(e);
+            return files;
+        }
+    }
+
     private static final int BSTATS_ID = 17230;
 
     private void loadItems() {
         ItemBuilder.loadItems();
+        DivConfig.addReloadListener(ItemBuilder::reloadItems);
     }
 
     private void loadClasses() {
@@ -72,11 +116,13 @@ public final class Divisions extends JavaPlugin implements DivConfig {
 
     @Override
     public void onEnable() {
-        if (!checkCompatible()) return;
         LOGGER = getLogger();
+        if (!checkCompatible()) return;
 
         saveDefaultConfig();
-        config = getConfig();
+        loadConfig();
+        loadMessages();
+        storage = loadStorage();
         Division.getDivisions(); // Verify that the divisions are valid
         getLogger().info("Loading Files...");
 
@@ -84,6 +130,9 @@ public final class Divisions extends JavaPlugin implements DivConfig {
         loadClasses();
         getLogger().info("Loaded Classes...");
 
+        DivisionSaver.start(this, getSaveInterval() * 20L);
+        ExperienceAccumulator.start(this, getExperienceInterval());
+        DivisionLogWriter.start();
         getLogger().info("Loaded Tasks...");
 
         Metrics m = new Metrics(this, BSTATS_ID);
@@ -97,6 +146,19 @@ public final class Divisions extends JavaPlugin implements DivConfig {
 
     @Override
     public void onDisable() {
+        ExperienceAccumulator.shutdown();
+        DivisionSaver.shutdown();
+        getLogger().info("Saved Divisions...");
+
+        try {
+            if (storage != null) storage.close();
+        } catch (IOException e) {
+            DivConfig.print(e);
+        }
+
+        DivisionLogWriter.shutdown();
+        getLogger().info("Saved Logs...");
+
         SERIALIZABLE.forEach(ConfigurationSerialization::unregisterClass);
         getLogger().info("Unregistered Classes...");
 
@@ -108,19 +170,7 @@ public final class Divisions extends JavaPlugin implements DivConfig {
     @Override
     public String get(String key) {
         if (key == null) return null;
-        String id = getLanguage().equalsIgnoreCase("en") ? "" : "_" + getLanguage() ;
-
-        Properties p = new Properties();
-        try (InputStream str = DivConfig.getPlugin().getClass().getResourceAsStream("/lang/divisions" + id + ".properties")) {
-            if (str == null) throw new IOException("Unknown Language: " + id);
-
-            p.load(str);
-            str.close();
-            return ChatColor.translateAlternateColorCodes('&', p.getProperty(key, "Unknown Value"));
-        } catch (IOException e) {
-            DivConfig.print(e);
-            return "Unknown Value";
-        }
+        return messages.get(getLanguage(), key);
     }
 
     @Override
@@ -128,14 +178,65 @@ public final class Divisions extends JavaPlugin implements DivConfig {
         return get("plugin.prefix") + " " + get(key);
     }
 
+    @Override
+    public String get(String key, Locale locale) {
+        if (key == null) return null;
+        return messages.get(locale.getLanguage(), key);
+    }
+
+    @Override
+    public String format(String key, Locale locale, Object... args) {
+        return messages.format(locale.getLanguage(), key, args);
+    }
+
+    @Override
+    public boolean isSupported(String language) {
+        return messages.isSupported(language);
+    }
+
     @Override
     public String getLanguage() {
-        return config.getString("language", "en");
+        return config.language;
     }
 
     @Override
     public int getMaxDivisionSize() {
-        return Math.max(10, Math.min(config.getInt("divisions.max-players", Division.MAX_PLAYERS), Division.MAX_PLAYERS));
+        return config.maxDivisionSize;
+    }
+
+    @Override
+    public int getSaveInterval() {
+        return config.saveInterval;
+    }
+
+    @Override
+    public int getExperienceInterval() {
+        return config.experienceInterval;
+    }
+
+    @Override
+    public int getChatHistorySize() {
+        return config.chatHistorySize;
+    }
+
+    @Override
+    public DivisionStorage getStorage() {
+        return storage;
+    }
+
+    @Override
+    public boolean isLazyLoading() {
+        return config.lazyLoading;
+    }
+
+    @Override
+    public int getMaxLoadedDivisions() {
+        return config.maxLoadedDivisions;
+    }
+
+    @Override
+    public int getDivisionIdleTime() {
+        return config.divisionIdleTime;
     }
 
 }
@@ -0,0 +1,97 @@
+package us.teaminceptus.divisions;
+
+import com.google.common.collect.ImmutableMap;
+import org.bukkit.ChatColor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import us.teaminceptus.divisions.api.DivConfig;
+import us.teaminceptus.divisions.api.player.PlayerSetting;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+final class MessageCatalog {
+
+    static final String DEFAULT_LANGUAGE = "en";
+
+    // Every non-empty value of the language setting has a bundle
+    static final List<String> LANGUAGES = Collections.unmodifiableList(PlayerSetting.LANGUAGE.getPossibleValues()
+            .stream()
+            .filter(language -> !language.isEmpty())
+            .collect(Collectors.toList()));
+
+    private static final String UNKNOWN = "Unknown Value";
+
+    private final Map<String, Map<String, String>> bundles;
+    private final Map<String, MessageFormat> templates = new ConcurrentHashMap<>();
+
+    private MessageCatalog(Map<String, Map<String, String>> bundles) {
+        this.bundles = bundles;
+    }
+
+    @NotNull
+    static MessageCatalog load() {
+        ImmutableMap.Builder<String, Map<String, String>> bundles = ImmutableMap.builder();
+
+        for (String language : LANGUAGES) {
+            String id = language.equals(DEFAULT_LANGUAGE) ? "" : "_" + language;
+
+            Properties p = new Properties();
+            try (InputStream str = MessageCatalog.class.getResourceAsStream("/lang/divisions" + id + ".properties")) {
+                if (str == null) throw new IOException("Unknown Language: " + language);
+                p.load(str);
+            } catch (IOException e) {
+                DivConfig.print(e);
+                continue;
+            }
+
+            ImmutableMap.Builder<String, String> bundle = ImmutableMap.builder();
+            for (String key : p.stringPropertyNames())
+                bundle.put(key, ChatColor.translateAlternateColorCodes('&', p.getProperty(key)));
+
+            bundles.put(language, bundle.build());
+        }
+
+        return new MessageCatalog(bundles.build());
+    }
+
+    boolean isSupported(@Nullable String language) {
+        return language != null && bundles.containsKey(language.toLowerCase());
+    }
+
+    @NotNull
+    String get(@NotNull String language, @NotNull String key) {
+        Map<String, String> bundle = bundles.get(language.toLowerCase());
+        String value = bundle == null ? null : bundle.get(key);
+
+        if (value == null && !language.equalsIgnoreCase(DEFAULT_LANGUAGE)) {
+            Map<String, String> fallback = bundles.get(DEFAULT_LANGUAGE);
+            value = fallback == null ? null : fallback.get(key);
+        }
+
+        return value == null ? UNKNOWN : value;
+    }
+
+    @NotNull
+    String format(@NotNull String language, @NotNull String key, @NotNull Object... args) {
+        String lang = language.toLowerCase();
+        if (args.length == 0) return get(lang, key);
+
+        // Bundles are plain text, so apostrophes are not MessageFormat quotes
+        MessageFormat template = templates.computeIfAbsent(lang + ":" + key, k -> new MessageFormat(get(lang, key).replace("'", "''"), new Locale(lang)));
+
+        // MessageFormat is not thread-safe
+        synchronized (template) {
+            return template.format(args);
+        }
+    }
+
+}
@@ -2,6 +2,7 @@ package us.teaminceptus.divisions.events;
 
 import com.google.common.collect.ImmutableMap;
 import org.bukkit.Bukkit;
+import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -14,7 +15,6 @@ import org.jetbrains.annotations.NotNull;
 import us.teaminceptus.divisions.Divisions;
 import us.teaminceptus.divisions.util.inventory.ItemBuilder;
 import us.teaminceptus.divisions.wrapper.DivInventory;
-import us.teaminceptus.divisions.wrapper.nbt.NBTWrapper;
 
 import java.util.Map;
 import java.util.function.BiConsumer;
@@ -37,18 +37,7 @@ public final class DivInventoryManager implements Listener {
             .build();
 
     private static final Map<String, BiConsumer<DivInventory, InventoryClickEvent>> CLICK_INVENTORY = ImmutableMap.<String, BiConsumer<DivInventory, InventoryClickEvent>>builder()
-            .put("confirm_inv", (inv, e) -> {
-                ItemStack item = e.getCurrentItem();
-                NBTWrapper nbt = of(item);
-
-                Runnable confirmR = inv.getAttribute("confirm_action", Runnable.class);
-                Runnable cancelR = inv.getAttribute("cancel_action", Runnable.class);
-
-                switch (nbt.getString("item")) {
-                    case "confirm": confirmR.run(); break;
-                    case "cancel": cancelR.run(); break;
-                }
-            })
+
             .build();
 
     // Logic
@@ -60,25 +49,26 @@ public final class DivInventoryManager implements Listener {
         if (!(e.getWhoClicked() instanceof Player)) return;
         if (e.getCurrentItem() == null) return;
 
-        ItemStack item = e.getCurrentItem();
-        if (item.isSimilar(ItemBuilder.GUI_BACKGROUND)) {
-            e.setCancelled(true);
+        DivInventory inv = (DivInventory) e.getClickedInventory();
+        e.setCancelled(inv.isCancelled());
+
+        BiConsumer<DivInventory, InventoryClickEvent> slotAction = inv.getAction(e.getSlot(), e.getCurrentItem());
+        if (slotAction != null) {
+            slotAction.accept(inv, e);
             return;
         }
 
-        DivInventory inv = (DivInventory) e.getClickedInventory();
-        e.setCancelled(inv.isCancelled());
+        // Items without a slot action, such as items placed or moved by players
+        ItemStack item = e.getCurrentItem();
+        if (item.getType() == Material.AIR) return;
 
         if (CLICK_INVENTORY.containsKey(inv.getIdentifier())) CLICK_INVENTORY.get(inv.getIdentifier()).accept(inv, e);
 
-        NBTWrapper w = of(item);
-
-        if (w.hasID()) {
-            String id = w.getID();
-            if (CLICK_ITEMS.containsKey(id)) {
-                e.setCancelled(true);
-                CLICK_ITEMS.get(id).accept(inv, e);
-            }
+        String id = of(item).getID();
+        BiConsumer<DivInventory, InventoryClickEvent> action = id == null || id.isEmpty() ? null : CLICK_ITEMS.get(id);
+        if (action != null) {
+            e.setCancelled(true);
+            action.accept(inv, e);
         }
     }
 